@@ -0,0 +1,51 @@
+// Read-heavy traffic mix for comparing request execution modes.
+//
+//   k6 run -e BASE_URL=http://localhost:8080/api loadtest/read-mix.js --summary-export=target/k6-platform.json
+//   (restart with VIRTUAL_THREADS_ENABLED=true on Java 21)
+//   k6 run -e BASE_URL=http://localhost:8080/api loadtest/read-mix.js --summary-export=target/k6-virtual.json
+//
+// Compare http_req_duration p(95)/p(99), http_reqs and the 503 rate (bulkhead rejections) between the two runs.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+
+export const options = {
+  scenarios: {
+    burst: {
+      executor: 'ramping-arrival-rate',
+      startRate: 50,
+      timeUnit: '1s',
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+      stages: [
+        { target: 200, duration: '30s' },
+        { target: 1000, duration: '30s' },
+        { target: 1000, duration: '1m' },
+        { target: 50, duration: '30s' },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    http_req_duration: ['p(95)<250'],
+  },
+};
+
+const paths = [
+  '/destinations?page=0&size=12',
+  '/destinations?page=1&size=12&sortBy=rating&sortDir=desc',
+  '/destinations/featured',
+  '/destinations/top',
+  '/destinations/search?q=beach',
+  '/destinations/nearby?lat=15.5&lng=73.8&radiusKm=100',
+  '/destinations/categories',
+  '/blog/posts?page=0&size=9',
+  '/blog/posts/featured',
+];
+
+export default function () {
+  const path = paths[Math.floor(Math.random() * paths.length)];
+  const res = http.get(`${BASE_URL}${path}`, { tags: { name: path.split('?')[0] } });
+  check(res, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
@@ -0,0 +1,126 @@
+package com.travelpro.benchmarks;
+
+import com.travelpro.dto.BlogCategoryDto;
+import com.travelpro.dto.BlogPostDto;
+import com.travelpro.entity.Attraction;
+import com.travelpro.entity.City;
+import com.travelpro.entity.Country;
+import com.travelpro.entity.Destination;
+import com.travelpro.entity.DestinationBudget;
+import com.travelpro.entity.DestinationImage;
+import com.travelpro.entity.DestinationWeather;
+import com.travelpro.entity.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Entity graphs and DTOs sized like the seeded catalogue: a destination with its location chain,
+ * a dozen attractions, a gallery, budgets per travel style and a full year of weather.
+ */
+final class BenchmarkFixtures {
+
+    private static final String PARAGRAPH = "Goa is known for its beaches, Portuguese heritage and spice plantations. "
+            .repeat(12);
+
+    private BenchmarkFixtures() {
+    }
+
+    static Destination destination(int seed) {
+        Country country = Country.builder().id(UUID.randomUUID()).name("India").code("IN")
+                .currency("INR").language("Hindi").timezone("Asia/Kolkata").createdAt(LocalDateTime.now()).build();
+        State state = State.builder().id(UUID.randomUUID()).country(country).name("Goa").code("GA")
+                .createdAt(LocalDateTime.now()).build();
+        City city = City.builder().id(UUID.randomUUID()).state(state).name("Panaji")
+                .latitude(new BigDecimal("15.49093000")).longitude(new BigDecimal("73.82785000"))
+                .population(114_405).elevation(7).createdAt(LocalDateTime.now()).build();
+
+        Destination destination = Destination.builder()
+                .id(UUID.randomUUID())
+                .name("Calangute Beach " + seed)
+                .slug("calangute-beach-" + seed)
+                .city(city)
+                .category("Beach")
+                .description(PARAGRAPH)
+                .shortDescription("The queen of beaches in North Goa")
+                .mainImageUrl("https://images.example.com/destinations/calangute/main.jpg")
+                .rating(new BigDecimal("4.35"))
+                .reviewCount(1280)
+                .bestTimeToVisit("November to February")
+                .recommendedDuration("2-3 days")
+                .difficultyLevel("Easy")
+                .history(PARAGRAPH)
+                .culture(PARAGRAPH)
+                .interestingFacts(new String[] {"Once a hippie haven", "Hosts a weekly flea market", "Has a sea fort"})
+                .latitude(new BigDecimal("15.54390000"))
+                .longitude(new BigDecimal("73.75530000"))
+                .isFeatured(true)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        List<Attraction> attractions = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            attractions.add(Attraction.builder().id(UUID.randomUUID()).destination(destination)
+                    .name("Attraction " + i).type(i % 3 == 0 ? Attraction.AttractionType.Optional : Attraction.AttractionType.Essential)
+                    .description(PARAGRAPH.substring(0, 400)).imageUrl("https://images.example.com/attractions/" + i + ".jpg")
+                    .openingHours("09:00-18:00").entryFee(new BigDecimal("150.00")).visitDuration("2 hours")
+                    .latitude(new BigDecimal("15.54000000")).longitude(new BigDecimal("73.76000000"))
+                    .bestTimeToVisit("Morning").tips("Carry water").sortOrder(i).createdAt(LocalDateTime.now()).build());
+        }
+        List<DestinationImage> images = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            images.add(DestinationImage.builder().id(UUID.randomUUID()).destination(destination)
+                    .imageUrl("https://images.example.com/destinations/calangute/" + i + ".jpg")
+                    .caption("View " + i).altText("Calangute view " + i).isPrimary(i == 0).sortOrder(i)
+                    .createdAt(LocalDateTime.now()).build());
+        }
+        List<DestinationBudget> budgets = new ArrayList<>();
+        for (String type : List.of("Budget", "Mid-range", "Luxury")) {
+            for (String category : List.of("Accommodation", "Food", "Transport")) {
+                budgets.add(DestinationBudget.builder().id(UUID.randomUUID()).destination(destination)
+                        .category(category).budgetType(type).pricePerDay(new BigDecimal("2500.00"))
+                        .description(category + " for " + type + " travellers").lastUpdated(LocalDateTime.now()).build());
+            }
+        }
+        List<DestinationWeather> weather = new ArrayList<>();
+        for (int month = 1; month <= 12; month++) {
+            weather.add(DestinationWeather.builder().id(UUID.randomUUID()).destination(destination)
+                    .month(month).minTemperature(21).maxTemperature(33).rainfall(month * 40).humidity(70)
+                    .weatherDescription("Warm and humid")
+                    .clothingRecommendations(new String[] {"Cotton", "Sunglasses"})
+                    .activitiesRecommended(new String[] {"Swimming", "Parasailing"})
+                    .travelTips(new String[] {"Book early in December"})
+                    .createdAt(LocalDateTime.now()).build());
+        }
+        destination.setAttractions(attractions);
+        destination.setImages(images);
+        destination.setBudgets(budgets);
+        destination.setWeather(weather);
+        return destination;
+    }
+
+    static List<Destination> destinations(int count) {
+        List<Destination> destinations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            destinations.add(destination(i));
+        }
+        return destinations;
+    }
+
+    static List<BlogPostDto> blogPosts(int count) {
+        BlogCategoryDto category = BlogCategoryDto.builder().id(UUID.randomUUID()).name("Travel Tips")
+                .slug("travel-tips").description("Practical advice").sortOrder(1).build();
+        List<BlogPostDto> posts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            posts.add(BlogPostDto.builder().id(UUID.randomUUID()).title("Ten things to do in Goa #" + i)
+                    .slug("ten-things-goa-" + i).excerpt(PARAGRAPH.substring(0, 200)).content(PARAGRAPH)
+                    .authorName("TravelPro Team").featuredImageUrl("https://images.example.com/blog/" + i + ".jpg")
+                    .readTime(6).tags(new String[] {"goa", "beaches", "india"}).isPublished(true).isFeatured(i == 0)
+                    .publishedAt(LocalDateTime.now()).createdAt(LocalDateTime.now()).category(category).build());
+        }
+        return posts;
+    }
+}
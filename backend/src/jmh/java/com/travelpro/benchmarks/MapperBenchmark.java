@@ -0,0 +1,49 @@
+package com.travelpro.benchmarks;
+
+import com.travelpro.dto.DestinationDto;
+import com.travelpro.entity.Destination;
+import com.travelpro.mapper.DestinationMapper;
+import com.travelpro.mapper.DestinationMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final DestinationMapper mapper = new DestinationMapperImpl();
+
+    private Destination destination;
+    private List<Destination> destinations;
+
+    @Setup
+    public void setUp() {
+        destination = BenchmarkFixtures.destination(0);
+        destinations = BenchmarkFixtures.destinations(20);
+    }
+
+    @Benchmark
+    public DestinationDto toDto() {
+        return mapper.toDto(destination);
+    }
+
+    @Benchmark
+    public List<DestinationDto> toDtoList() {
+        return mapper.toDtoList(destinations);
+    }
+}
@@ -0,0 +1,89 @@
+package com.travelpro.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.travelpro.cache.CachedPage;
+import com.travelpro.config.CacheConfig;
+import com.travelpro.dto.BlogPostDto;
+import com.travelpro.dto.DestinationDto;
+import com.travelpro.mapper.DestinationMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP serialization with an ObjectMapper configured like Spring Boot's, and Redis round trips through
+ * the same {@link GenericJackson2JsonRedisSerializer} that {@code CacheConfig} uses for cached values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final GenericJackson2JsonRedisSerializer redisSerializer = CacheConfig.redisValueSerializer();
+
+    private DestinationDto destination;
+    private Page<BlogPostDto> blogPage;
+    private byte[] cachedDestination;
+    private byte[] cachedBlogPage;
+
+    @Setup
+    public void setUp() {
+        destination = new DestinationMapperImpl().toDto(BenchmarkFixtures.destination(0));
+        blogPage = CachedPage.of(new PageImpl<>(BenchmarkFixtures.blogPosts(10),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "publishedAt")), 240));
+        cachedDestination = redisSerializer.serialize(destination);
+        cachedBlogPage = redisSerializer.serialize(blogPage);
+    }
+
+    @Benchmark
+    public byte[] writeDestinationJson() throws Exception {
+        return objectMapper.writeValueAsBytes(destination);
+    }
+
+    @Benchmark
+    public byte[] writeBlogPageJson() throws Exception {
+        return objectMapper.writeValueAsBytes(blogPage);
+    }
+
+    @Benchmark
+    public byte[] redisSerializeDestination() {
+        return redisSerializer.serialize(destination);
+    }
+
+    @Benchmark
+    public Object redisDeserializeDestination() {
+        return redisSerializer.deserialize(cachedDestination);
+    }
+
+    @Benchmark
+    public Object redisRoundTripBlogPage() {
+        return redisSerializer.deserialize(redisSerializer.serialize(blogPage));
+    }
+
+    @Benchmark
+    public Object redisDeserializeBlogPage() {
+        return redisSerializer.deserialize(cachedBlogPage);
+    }
+}
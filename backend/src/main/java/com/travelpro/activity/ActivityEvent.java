@@ -0,0 +1,12 @@
+package com.travelpro.activity;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * One row of {@code activity_logs}.
+ */
+public record ActivityEvent(UUID userId, String action, String entityType, UUID entityId, Map<String, Object> details,
+                            String ipAddress, String userAgent, Instant createdAt) {
+}
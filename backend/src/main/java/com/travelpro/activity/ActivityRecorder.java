@@ -0,0 +1,205 @@
+package com.travelpro.activity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Records {@code search_history} and {@code activity_logs} rows off the request path. Events are buffered in
+ * an {@link EventPipeline} per table and written by its background thread, one multi-row {@code INSERT} per
+ * batch. When a buffer is full further events are dropped rather than slowing requests down.
+ *
+ * <p>Searches are also counted per day and normalized query in {@code search_query_daily}, in the same
+ * statement, for search autocomplete.
+ */
+@Slf4j
+@Component
+public class ActivityRecorder {
+
+    static final String INSERT_SEARCHES_SQL = """
+            WITH e AS (
+                SELECT * FROM unnest(?::text[], ?::text[], ?::text[], ?::int[], ?::text[])
+                    AS e(email, search_query, filters, results_count, created_at)
+            ), history AS (
+                INSERT INTO search_history (user_id, search_query, filters, results_count, created_at)
+                SELECT u.id, e.search_query, e.filters::jsonb, e.results_count, e.created_at::timestamptz
+                FROM e
+                LEFT JOIN users u ON u.email = e.email
+            )
+            INSERT INTO search_query_daily AS q (day, query, search_count, results_count)
+            SELECT (e.created_at::timestamptz AT TIME ZONE 'UTC')::date,
+                   lower(regexp_replace(btrim(e.search_query), '\\s+', ' ', 'g')),
+                   COUNT(*),
+                   MAX(e.results_count)
+            FROM e
+            GROUP BY 1, 2
+            ON CONFLICT (day, query) DO UPDATE
+                SET search_count = q.search_count + EXCLUDED.search_count,
+                    results_count = COALESCE(EXCLUDED.results_count, q.results_count)
+            """;
+
+    static final String INSERT_ACTIVITIES_SQL = """
+            INSERT INTO activity_logs (user_id, action, entity_type, entity_id, details, ip_address, user_agent, created_at)
+            SELECT e.user_id, e.action, e.entity_type, e.entity_id, e.details::jsonb, e.ip_address::inet, e.user_agent,
+                   e.created_at::timestamptz
+            FROM unnest(?::uuid[], ?::text[], ?::text[], ?::uuid[], ?::text[], ?::text[], ?::text[], ?::text[])
+                AS e(user_id, action, entity_type, entity_id, details, ip_address, user_agent, created_at)
+            """;
+
+    private static final int MAX_QUERY_LENGTH = 500;
+    private static final int MAX_USER_AGENT_LENGTH = 512;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration shutdownTimeout;
+    private final EventPipeline<SearchEvent> searches;
+    private final EventPipeline<ActivityEvent> activities;
+
+    public ActivityRecorder(JdbcTemplate jdbcTemplate,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.activity.buffer-capacity:65536}") int bufferCapacity,
+                            @Value("${app.activity.batch-size:1000}") int batchSize,
+                            @Value("${app.activity.shutdown-timeout:5s}") Duration shutdownTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.shutdownTimeout = shutdownTimeout;
+        this.searches = new EventPipeline<>("search_history", bufferCapacity, batchSize, this::writeSearches,
+                meterRegistry);
+        this.activities = new EventPipeline<>("activity_logs", bufferCapacity, batchSize, this::writeActivities,
+                meterRegistry);
+    }
+
+    public void recordSearch(String userEmail, String query, Map<String, String> filters, Long resultsCount) {
+        searches.offer(new SearchEvent(userEmail, truncate(query, MAX_QUERY_LENGTH), filters, resultsCount,
+                Instant.now()));
+    }
+
+    /**
+     * Records an action of {@code userId} once the current transaction commits, together with the
+     * client address and user agent of the current request, if any.
+     */
+    public void recordActivityAfterCommit(UUID userId, String action, String entityType, UUID entityId,
+                                          Map<String, Object> details) {
+        String ipAddress = null;
+        String userAgent = null;
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            ipAddress = request.getRemoteAddr();
+            userAgent = truncate(request.getHeader(HttpHeaders.USER_AGENT), MAX_USER_AGENT_LENGTH);
+        }
+        ActivityEvent event = new ActivityEvent(userId, action, entityType, entityId, details, ipAddress, userAgent,
+                Instant.now());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    activities.offer(event);
+                }
+            });
+        } else {
+            activities.offer(event);
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        searches.close(shutdownTimeout);
+        activities.close(shutdownTimeout);
+    }
+
+    private void writeSearches(List<SearchEvent> batch) {
+        int size = batch.size();
+        String[] emails = new String[size];
+        String[] queries = new String[size];
+        String[] filters = new String[size];
+        Integer[] resultsCounts = new Integer[size];
+        String[] createdAt = new String[size];
+        for (int i = 0; i < size; i++) {
+            SearchEvent event = batch.get(i);
+            emails[i] = event.userEmail();
+            queries[i] = event.query();
+            filters[i] = toJson(event.filters());
+            resultsCounts[i] = event.resultsCount() != null ? (int) Math.min(event.resultsCount(), Integer.MAX_VALUE) : null;
+            createdAt[i] = event.createdAt().toString();
+        }
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_SEARCHES_SQL);
+            statement.setArray(1, connection.createArrayOf("text", emails));
+            statement.setArray(2, connection.createArrayOf("text", queries));
+            statement.setArray(3, connection.createArrayOf("text", filters));
+            statement.setArray(4, connection.createArrayOf("integer", resultsCounts));
+            statement.setArray(5, connection.createArrayOf("text", createdAt));
+            return statement;
+        });
+    }
+
+    private void writeActivities(List<ActivityEvent> batch) {
+        int size = batch.size();
+        UUID[] userIds = new UUID[size];
+        String[] actions = new String[size];
+        String[] entityTypes = new String[size];
+        UUID[] entityIds = new UUID[size];
+        String[] details = new String[size];
+        String[] ipAddresses = new String[size];
+        String[] userAgents = new String[size];
+        String[] createdAt = new String[size];
+        for (int i = 0; i < size; i++) {
+            ActivityEvent event = batch.get(i);
+            userIds[i] = event.userId();
+            actions[i] = event.action();
+            entityTypes[i] = event.entityType();
+            entityIds[i] = event.entityId();
+            details[i] = toJson(event.details());
+            ipAddresses[i] = event.ipAddress();
+            userAgents[i] = event.userAgent();
+            createdAt[i] = event.createdAt().toString();
+        }
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_ACTIVITIES_SQL);
+            statement.setArray(1, connection.createArrayOf("uuid", userIds));
+            statement.setArray(2, connection.createArrayOf("text", actions));
+            statement.setArray(3, connection.createArrayOf("text", entityTypes));
+            statement.setArray(4, connection.createArrayOf("uuid", entityIds));
+            statement.setArray(5, connection.createArrayOf("text", details));
+            statement.setArray(6, connection.createArrayOf("text", ipAddresses));
+            statement.setArray(7, connection.createArrayOf("text", userAgents));
+            statement.setArray(8, connection.createArrayOf("text", createdAt));
+            return statement;
+        });
+    }
+
+    private String toJson(Map<String, ?> value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            log.debug("Could not serialize activity details {}", value, ex);
+            return null;
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
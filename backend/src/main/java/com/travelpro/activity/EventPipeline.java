@@ -0,0 +1,127 @@
+package com.travelpro.activity;
+
+import com.travelpro.metrics.LogSampler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Bounded ring buffer drained by a single background writer thread. Producers never block: when the buffer
+ * is full the event is dropped and counted as {@code activity.events.dropped}, so a slow database sheds
+ * telemetry instead of adding latency to requests. The writer hands over everything that accumulated since
+ * its last write, up to {@code batchSize} events, so batches grow with load while the statement rate stays flat.
+ *
+ * <p>A batch that fails to write is dropped and counted as {@code activity.events.write.failures}; these
+ * events are not worth retrying at the cost of a growing backlog.
+ */
+@Slf4j
+public class EventPipeline<E> {
+
+    private static final Duration IDLE_POLL = Duration.ofMillis(200);
+
+    private final String name;
+    private final BlockingQueue<E> buffer;
+    private final int batchSize;
+    private final Consumer<List<E>> batchWriter;
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+    private final LogSampler failureLog = new LogSampler(Duration.ofSeconds(30));
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public EventPipeline(String name, int capacity, int batchSize, Consumer<List<E>> batchWriter,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.batchWriter = batchWriter;
+        Gauge.builder("activity.events.buffered", buffer, BlockingQueue::size)
+                .description("Events waiting for the background writer")
+                .tag("pipeline", name)
+                .register(meterRegistry);
+        this.dropped = Counter.builder("activity.events.dropped")
+                .description("Events discarded because the buffer was full")
+                .tag("pipeline", name)
+                .register(meterRegistry);
+        this.written = Counter.builder("activity.events.written")
+                .tag("pipeline", name)
+                .register(meterRegistry);
+        this.failed = Counter.builder("activity.events.write.failures")
+                .description("Events lost because their batch could not be written")
+                .tag("pipeline", name)
+                .register(meterRegistry);
+        this.writer = new Thread(this::drainLoop, "event-writer-" + name);
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Buffers the event without blocking.
+     *
+     * @return {@code false} if the buffer was full and the event was dropped
+     */
+    public boolean offer(E event) {
+        if (running && buffer.offer(event)) {
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * Stops accepting events and waits up to {@code timeout} for the writer to drain what is buffered.
+     */
+    public void close(Duration timeout) {
+        running = false;
+        try {
+            writer.join(timeout.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            log.warn("Event writer {} did not drain within {}, {} events lost", name, timeout, buffer.size());
+        }
+    }
+
+    private void drainLoop() {
+        List<E> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                E first = buffer.poll(IDLE_POLL.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<E> batch) {
+        try {
+            batchWriter.accept(batch);
+            written.increment(batch.size());
+        } catch (RuntimeException ex) {
+            failed.increment(batch.size());
+            if (failureLog.sample(name)) {
+                log.warn("Could not write {} events to {}, dropping them", batch.size(), name, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.travelpro.activity;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * One row of {@code search_history}. The user is kept as the authenticated email and resolved to its id
+ * when the batch is written, so recording costs no lookup on the request path.
+ */
+public record SearchEvent(String userEmail, String query, Map<String, String> filters, Long resultsCount,
+                          Instant createdAt) {
+}
@@ -0,0 +1,102 @@
+package com.travelpro.activity;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Records every successful search in {@code search_history}. Only the first page is recorded, as paging through
+ * the results with {@code page} or {@code cursor} repeats the same search. Runs after the security filter chain,
+ * to know the user, and before {@code ResponseCacheFilter}, so that searches answered from the response cache
+ * are counted too. Those carry no results count, as no controller ran to report it.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class SearchHistoryFilter extends OncePerRequestFilter {
+
+    private static final String RESULTS_COUNT_ATTRIBUTE = SearchHistoryFilter.class.getName() + ".resultsCount";
+    private static final Map<String, String> SCOPES_BY_PATH = Map.of(
+            "/destinations/search", "destinations",
+            "/blog/posts/search", "blog");
+    private static final Set<String> NON_FILTER_PARAMETERS = Set.of("q", "page", "size");
+
+    private final ActivityRecorder activityRecorder;
+
+    /**
+     * Reports the total number of matches of the search being served, for its history row.
+     */
+    public static void recordResultsCount(long resultsCount) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(RESULTS_COUNT_ATTRIBUTE, resultsCount, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || !SCOPES_BY_PATH.containsKey(pathWithinApplication(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        filterChain.doFilter(request, response);
+
+        String query = request.getParameter("q");
+        int status = response.getStatus();
+        if (!StringUtils.hasText(query) || !isFirstPage(request)
+                || (status >= 300 && status != HttpServletResponse.SC_NOT_MODIFIED)) {
+            return;
+        }
+        Map<String, String> filters = new TreeMap<>();
+        filters.put("scope", SCOPES_BY_PATH.get(pathWithinApplication(request)));
+        request.getParameterMap().forEach((name, values) -> {
+            if (!NON_FILTER_PARAMETERS.contains(name) && values.length > 0) {
+                filters.put(name, values[0]);
+            }
+        });
+        activityRecorder.recordSearch(currentUserEmail(), query.strip(), filters,
+                (Long) request.getAttribute(RESULTS_COUNT_ATTRIBUTE));
+    }
+
+    private static boolean isFirstPage(HttpServletRequest request) {
+        if (request.getParameter("cursor") != null) {
+            return false;
+        }
+        String page = request.getParameter("page");
+        try {
+            return page == null || Integer.parseInt(page.strip()) <= 0;
+        } catch (NumberFormatException ex) {
+            // Spring falls back to the first page for a page it cannot parse
+            return true;
+        }
+    }
+
+    private static String currentUserEmail() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken) ? authentication.getName() : null;
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,13 @@
+package com.travelpro.bulkhead;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * No connection permit became available within the bulkhead's wait limit. Transient: the request can be retried.
+ */
+public class BulkheadFullException extends SQLTransientConnectionException {
+
+    public BulkheadFullException(String message) {
+        super(message);
+    }
+}
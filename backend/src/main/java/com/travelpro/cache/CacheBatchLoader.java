@@ -0,0 +1,175 @@
+package com.travelpro.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Multi-key reads through the regular cache names, for endpoints that would otherwise look entries up
+ * one request at a time. Local-tier hits are served first, the rest is read from Redis with a single
+ * {@code MGET}, the remaining misses are loaded by the caller in one query and written back in one pipeline.
+ *
+ * <p>Keys and values use the same layout as {@code RedisCache}, so entries are shared with
+ * {@code @Cacheable} lookups in both directions. Redis failures degrade to loading from the database.
+ */
+@Slf4j
+public class CacheBatchLoader {
+
+    private final CacheManager cacheManager;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final RedisSerializer<Object> valueSerializer;
+    private final Map<String, Duration> remoteTtls;
+    private final Duration defaultRemoteTtl;
+
+    public CacheBatchLoader(CacheManager cacheManager,
+                            RedisConnectionFactory redisConnectionFactory,
+                            RedisSerializer<Object> valueSerializer,
+                            Map<String, Duration> remoteTtls,
+                            Duration defaultRemoteTtl) {
+        this.cacheManager = cacheManager;
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.valueSerializer = valueSerializer;
+        this.remoteTtls = remoteTtls;
+        this.defaultRemoteTtl = defaultRemoteTtl;
+    }
+
+    /**
+     * Returns the values found for {@code keys}, in key order. Keys cached as absent are neither loaded
+     * nor returned; keys the loader does not return are not cached, so unknown ids cannot flood Redis.
+     *
+     * @param loader loads all given keys at once, typically with a single {@code IN} query
+     */
+    public <K, V> Map<K, V> getAll(String cacheName, Collection<K> keys, Class<V> type,
+                                   Function<Collection<K>, Map<K, V>> loader) {
+        List<K> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        Map<K, V> found = new HashMap<>();
+        List<K> absent = new ArrayList<>();
+
+        Cache cache = cacheManager.getCache(cacheName);
+        TwoLevelCache twoLevelCache = cache instanceof TwoLevelCache local ? local : null;
+        List<K> remoteKeys = distinctKeys;
+        if (twoLevelCache != null) {
+            Map<Object, TwoLevelCache.LocalEntry> localEntries = twoLevelCache.getAllLocal(distinctKeys);
+            remoteKeys = new ArrayList<>();
+            for (K key : distinctKeys) {
+                TwoLevelCache.LocalEntry entry = localEntries.get(key);
+                if (entry == null || !collect(key, entry.get(), type, found, absent)) {
+                    remoteKeys.add(key);
+                }
+            }
+        }
+
+        List<K> misses = new ArrayList<>();
+        if (!remoteKeys.isEmpty()) {
+            List<byte[]> values = multiGet(cacheName, remoteKeys);
+            for (int i = 0; i < remoteKeys.size(); i++) {
+                K key = remoteKeys.get(i);
+                Object value = values != null ? deserialize(values.get(i)) : null;
+                if (value != null && collect(key, value, type, found, absent)) {
+                    if (twoLevelCache != null) {
+                        twoLevelCache.putLocal(key, value instanceof NullValue ? null : value);
+                    }
+                } else {
+                    misses.add(key);
+                }
+            }
+            if (twoLevelCache != null) {
+                twoLevelCache.recordRemoteLookups(remoteKeys.size() - misses.size(), misses.size());
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Map<K, V> loaded = loader.apply(misses);
+            found.putAll(loaded);
+            multiSet(cacheName, loaded);
+            if (twoLevelCache != null) {
+                loaded.forEach(twoLevelCache::putLocal);
+            }
+        }
+
+        log.debug("Batch read of {} keys from {}: {} found, {} loaded, {} cached as absent",
+                distinctKeys.size(), cacheName, found.size(), misses.size(), absent.size());
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : distinctKeys) {
+            V value = found.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return whether the cached value settled the key, either as a hit or as cached absence
+     */
+    private <K, V> boolean collect(K key, Object value, Class<V> type, Map<K, V> found, List<K> absent) {
+        if (value == null || value instanceof NullValue) {
+            absent.add(key);
+            return true;
+        }
+        if (type.isInstance(value)) {
+            found.put(key, type.cast(value));
+            return true;
+        }
+        return false;
+    }
+
+    private List<byte[]> multiGet(String cacheName, List<?> keys) {
+        byte[][] rawKeys = keys.stream().map(key -> rawKey(cacheName, key)).toArray(byte[][]::new);
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            return connection.stringCommands().mGet(rawKeys);
+        } catch (RuntimeException ex) {
+            log.warn("Batch read from cache {} failed, loading {} keys from the database", cacheName, keys.size(), ex);
+            return null;
+        }
+    }
+
+    private void multiSet(String cacheName, Map<?, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Expiration expiration = Expiration.from(remoteTtls.getOrDefault(cacheName, defaultRemoteTtl));
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            connection.openPipeline();
+            entries.forEach((key, value) -> connection.stringCommands().set(rawKey(cacheName, key),
+                    valueSerializer.serialize(value), expiration, RedisStringCommands.SetOption.upsert()));
+            connection.closePipeline();
+        } catch (RuntimeException ex) {
+            log.warn("Batch write of {} entries to cache {} failed", entries.size(), cacheName, ex);
+        }
+    }
+
+    private Object deserialize(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return valueSerializer.deserialize(bytes);
+        } catch (RuntimeException ex) {
+            log.debug("Could not deserialize cached value, treating it as a miss", ex);
+            return null;
+        }
+    }
+
+    private static byte[] rawKey(String cacheName, Object key) {
+        return (CacheKeyPrefix.simple().compute(cacheName) + key).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,43 @@
+package com.travelpro.cache;
+
+import java.util.List;
+
+/**
+ * What changed in the database, and which caches hold a copy of it.
+ * Keyed caches are evicted by id and natural key; listing caches hold pages and rankings
+ * whose keys cannot be derived from the row, so they are cleared.
+ */
+public enum CacheChange {
+
+    DESTINATION(List.of("destination"),
+            List.of("destinations", "featuredDestinations", "topDestinations", "destinationCategories",
+                    "destinationResponses")),
+
+    // Written by the review aggregate flush: rating and review_count only
+    DESTINATION_RATING(List.of("destination"),
+            List.of("destinations", "featuredDestinations", "topDestinations", "destinationResponses")),
+
+    // Review histogram and travel type breakdowns, rewritten by every review aggregate flush
+    REVIEW_STATS(List.of("reviewStats"), List.of()),
+
+    BLOG_POST(List.of("blogPost"),
+            List.of("blogPosts", "featuredBlogPosts", "blogResponses")),
+
+    USER(List.of("users"), List.of());
+
+    private final List<String> keyedCaches;
+    private final List<String> listingCaches;
+
+    CacheChange(List<String> keyedCaches, List<String> listingCaches) {
+        this.keyedCaches = keyedCaches;
+        this.listingCaches = listingCaches;
+    }
+
+    public List<String> keyedCaches() {
+        return keyedCaches;
+    }
+
+    public List<String> listingCaches() {
+        return listingCaches;
+    }
+}
@@ -0,0 +1,51 @@
+package com.travelpro.cache;
+
+import com.travelpro.entity.BlogPost;
+import com.travelpro.entity.Destination;
+import com.travelpro.entity.User;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA callbacks that turn writes to cached entities into {@link EntityChangedEvent}s.
+ * Instantiated by Hibernate through Spring's bean container.
+ */
+@RequiredArgsConstructor
+public class CacheInvalidationEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onLoad(Object entity) {
+        if (entity instanceof Destination destination) {
+            destination.setLoadedSlug(destination.getSlug());
+        } else if (entity instanceof BlogPost post) {
+            post.setLoadedSlug(post.getSlug());
+        } else if (entity instanceof User user) {
+            user.setLoadedEmail(user.getEmail());
+        }
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof Destination destination) {
+            eventPublisher.publishEvent(EntityChangedEvent.of(CacheChange.DESTINATION,
+                    destination.getId(), destination.getSlug(), destination.getLoadedSlug()));
+            destination.setLoadedSlug(destination.getSlug());
+        } else if (entity instanceof BlogPost post) {
+            eventPublisher.publishEvent(EntityChangedEvent.of(CacheChange.BLOG_POST,
+                    post.getId(), post.getSlug(), post.getLoadedSlug()));
+            post.setLoadedSlug(post.getSlug());
+        } else if (entity instanceof User user) {
+            eventPublisher.publishEvent(EntityChangedEvent.of(CacheChange.USER,
+                    user.getId(), user.getEmail(), user.getLoadedEmail()));
+            user.setLoadedEmail(user.getEmail());
+        }
+    }
+}
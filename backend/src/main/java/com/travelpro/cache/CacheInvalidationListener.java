@@ -0,0 +1,31 @@
+package com.travelpro.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+    private final TwoLevelCacheManager cacheManager;
+    private final RedisSerializer<CacheInvalidationMessage> serializer;
+    private final String nodeId;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation;
+        try {
+            invalidation = serializer.deserialize(message.getBody());
+        } catch (Exception ex) {
+            log.warn("Ignoring malformed cache invalidation message", ex);
+            return;
+        }
+        if (invalidation == null || nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        cacheManager.evictLocal(invalidation.cacheName(), invalidation.key());
+    }
+}
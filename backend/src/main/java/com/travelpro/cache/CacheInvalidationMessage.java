@@ -0,0 +1,8 @@
+package com.travelpro.cache;
+
+/**
+ * Broadcast over Redis pub/sub when an entry changes so that other nodes drop their local copy.
+ * A {@code null} key means the whole cache was cleared.
+ */
+public record CacheInvalidationMessage(String origin, String cacheName, String key) {
+}
@@ -0,0 +1,87 @@
+package com.travelpro.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Evicts exactly the entries affected by an entity change, so cache TTLs only bound
+ * staleness for changes the application cannot observe.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Runs after the writing transaction commits so a concurrent reader cannot re-cache the old row.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        invalidate(event);
+    }
+
+    public void invalidate(EntityChangedEvent event) {
+        log.debug("Invalidating caches for {} {} {}", event.change(), event.id(), event.keys());
+        evict(event);
+        clear(event.change().listingCaches());
+    }
+
+    /**
+     * Evicts the keyed entries of every change but clears each affected listing cache only once,
+     * for writers that change many rows at a time.
+     */
+    public void invalidateAll(Collection<EntityChangedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        log.debug("Invalidating caches for {} changes", events.size());
+        Set<String> listingCaches = new LinkedHashSet<>();
+        for (EntityChangedEvent event : events) {
+            evict(event);
+            listingCaches.addAll(event.change().listingCaches());
+        }
+        clear(listingCaches);
+    }
+
+    private void evict(EntityChangedEvent event) {
+        for (String cacheName : event.change().keyedCaches()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache == null) {
+                continue;
+            }
+            if (event.id() != null) {
+                cache.evict(event.id());
+            }
+            event.keys().forEach(cache::evict);
+        }
+    }
+
+    /**
+     * Drops everything a kind of change can affect. Used when changes may have been missed,
+     * e.g. while the database notification connection was down.
+     */
+    public void clearAll(CacheChange change) {
+        log.debug("Clearing all caches affected by {}", change);
+        clear(change.keyedCaches());
+        clear(change.listingCaches());
+    }
+
+    private void clear(Collection<String> cacheNames) {
+        for (String cacheName : cacheNames) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+}
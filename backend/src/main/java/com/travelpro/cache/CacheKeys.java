@@ -0,0 +1,42 @@
+package com.travelpro.cache;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Canonical cache keys for paginated listings, referenced from {@code @Cacheable} SpEL expressions.
+ * Only the page sizes the clients actually use and the first pages are cached, which keeps the number
+ * of keys per cache bounded no matter what parameters callers send.
+ */
+public final class CacheKeys {
+
+    public static final Set<Integer> CACHEABLE_PAGE_SIZES = Set.of(6, 9, 10, 12, 20, 24, 50);
+    public static final int MAX_CACHEABLE_PAGE = 20;
+
+    private CacheKeys() {
+    }
+
+    public static boolean isCacheable(Pageable pageable) {
+        return pageable.getPageNumber() < MAX_CACHEABLE_PAGE && CACHEABLE_PAGE_SIZES.contains(pageable.getPageSize());
+    }
+
+    public static String page(Pageable pageable) {
+        return "p" + pageable.getPageNumber() + ":s" + pageable.getPageSize() + ":" + sort(pageable.getSort());
+    }
+
+    public static String page(String prefix, Pageable pageable) {
+        return prefix + ":" + page(pageable);
+    }
+
+    private static String sort(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "unsorted";
+        }
+        return sort.stream()
+                .map(order -> order.getProperty() + "," + order.getDirection().name().toLowerCase())
+                .collect(Collectors.joining(";"));
+    }
+}
@@ -0,0 +1,31 @@
+package com.travelpro.cache;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link PageImpl} that Jackson can read back, so paginated results survive a round trip through Redis.
+ * Serializes exactly like {@link PageImpl}, keeping the HTTP response shape unchanged.
+ */
+@JsonIgnoreProperties(value = {"pageable", "sort"}, allowGetters = true, ignoreUnknown = true)
+public class CachedPage<T> extends PageImpl<T> {
+
+    @JsonCreator
+    public CachedPage(@JsonProperty("content") List<T> content,
+                      @JsonProperty("number") int number,
+                      @JsonProperty("size") int size,
+                      @JsonProperty("totalElements") long totalElements) {
+        super(content, PageRequest.of(number, Math.max(size, 1)), totalElements);
+    }
+
+    public static <T> CachedPage<T> of(Page<T> page) {
+        return new CachedPage<>(new ArrayList<>(page.getContent()), page.getNumber(), page.getSize(), page.getTotalElements());
+    }
+}
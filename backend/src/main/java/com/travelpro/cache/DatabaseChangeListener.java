@@ -0,0 +1,156 @@
+package com.travelpro.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.SmartLifecycle;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * Subscribes to Postgres {@code LISTEN/NOTIFY} so that rows changed by database triggers,
+ * which never pass through JPA, are evicted as well. Uses its own connection rather than
+ * holding one from the pool for the lifetime of the application.
+ *
+ * <p>A lost connection means notifications may have been missed, so after reconnecting the
+ * caches they feed are cleared once. The same happens when evicting for a notification fails,
+ * e.g. while Redis is unavailable; such failures never stop the listener.
+ */
+@Slf4j
+public class DatabaseChangeListener implements SmartLifecycle {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final int POLL_TIMEOUT_MILLIS = 5000;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String channel;
+    private final Duration reconnectDelay;
+    private final CacheInvalidator cacheInvalidator;
+    private final ObjectMapper objectMapper;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public DatabaseChangeListener(String url, String username, String password, String channel,
+                                  Duration reconnectDelay, CacheInvalidator cacheInvalidator,
+                                  ObjectMapper objectMapper) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid notification channel name: " + channel);
+        }
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.channel = channel;
+        this.reconnectDelay = reconnectDelay;
+        this.cacheInvalidator = cacheInvalidator;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::listen, "db-change-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean resyncNeeded = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                log.info("Listening for database changes on channel {}", channel);
+                while (running) {
+                    // Retried on every poll until it succeeds, e.g. once Redis is reachable again
+                    if (resyncNeeded) {
+                        resyncNeeded = !resync();
+                    }
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            if (!tryHandle(notification.getParameter())) {
+                                resyncNeeded = true;
+                            }
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                resyncNeeded = true;
+                log.warn("Database change listener disconnected, retrying in {}", reconnectDelay, ex);
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return {@code false} if the eviction failed, in which case the notification is lost
+     */
+    private boolean tryHandle(String payload) {
+        try {
+            handle(payload);
+            return true;
+        } catch (RuntimeException ex) {
+            log.warn("Failed to evict caches for database change notification {}", payload, ex);
+            return false;
+        }
+    }
+
+    void handle(String payload) {
+        DatabaseChangeNotification notification;
+        try {
+            notification = objectMapper.readValue(payload, DatabaseChangeNotification.class);
+        } catch (Exception ex) {
+            log.warn("Ignoring malformed database change notification: {}", payload, ex);
+            return;
+        }
+        if (!"destinations".equals(notification.table())) {
+            log.debug("Ignoring change notification for table {}", notification.table());
+            return;
+        }
+        cacheInvalidator.invalidate(EntityChangedEvent.of(CacheChange.DESTINATION_RATING,
+                notification.id(), notification.slug()));
+    }
+
+    private boolean resync() {
+        log.info("Clearing rating-dependent caches after missed database change notifications");
+        try {
+            cacheInvalidator.clearAll(CacheChange.DESTINATION_RATING);
+            return true;
+        } catch (RuntimeException ex) {
+            log.warn("Failed to clear rating-dependent caches, retrying", ex);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.travelpro.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.UUID;
+
+/**
+ * Payload of the {@code pg_notify} calls made by the cache invalidation triggers.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record DatabaseChangeNotification(String table, UUID id, String slug) {
+}
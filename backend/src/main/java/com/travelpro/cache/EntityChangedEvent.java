@@ -0,0 +1,20 @@
+package com.travelpro.cache;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Published when a cached entity is written. {@code keys} holds the natural keys the entity is cached
+ * under (slug, email): the current value and, if it changed, the value it was loaded with.
+ */
+public record EntityChangedEvent(CacheChange change, UUID id, Set<String> keys) {
+
+    public static EntityChangedEvent of(CacheChange change, UUID id, String... keys) {
+        return new EntityChangedEvent(change, id, Stream.of(keys)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+}
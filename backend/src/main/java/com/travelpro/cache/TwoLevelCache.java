@@ -0,0 +1,389 @@
+package com.travelpro.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Near cache: an in-process Caffeine tier (L1) in front of a shared Redis tier (L2).
+ * Writes and evictions go through to L2 and are broadcast so that other nodes drop their L1 copy.
+ *
+ * <p>Synchronized lookups ({@code @Cacheable(sync = true)}) coalesce concurrent misses per key, and
+ * entries that are close to their Redis expiry are recomputed by a single caller while everyone else
+ * keeps being served the current value, so a TTL rollover never turns into a burst of identical queries.
+ */
+@Slf4j
+public class TwoLevelCache implements org.springframework.cache.Cache {
+
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final String name;
+    private final Cache<String, LocalEntry> localCache;
+    private final org.springframework.cache.Cache remoteCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final Duration remoteTtl;
+    private final Duration refreshAheadWindow;
+    private final ToLongFunction<String> remoteTtlLookup;
+
+    private final Map<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> inFlightRefreshes = new ConcurrentHashMap<>();
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder remoteEvictions = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    private volatile LatencyListener latencyListener = LatencyListener.NONE;
+
+    public TwoLevelCache(String name, Cache<String, LocalEntry> localCache,
+                         org.springframework.cache.Cache remoteCache,
+                         CacheInvalidationPublisher invalidationPublisher) {
+        this(name, localCache, remoteCache, invalidationPublisher, Duration.ZERO, Duration.ZERO, key -> -1L);
+    }
+
+    /**
+     * @param remoteTtlLookup remaining Redis TTL in milliseconds for a local key, negative if unknown
+     */
+    public TwoLevelCache(String name, Cache<String, LocalEntry> localCache,
+                         org.springframework.cache.Cache remoteCache,
+                         CacheInvalidationPublisher invalidationPublisher,
+                         Duration remoteTtl, Duration refreshAheadWindow,
+                         ToLongFunction<String> remoteTtlLookup) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.remoteTtl = remoteTtl;
+        this.refreshAheadWindow = refreshAheadWindow;
+        this.remoteTtlLookup = remoteTtlLookup;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return lookup(toLocalKey(key), key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+        LocalEntry entry = lookup(localKey, key);
+        if (entry != null) {
+            if (isDueForRefresh(entry)) {
+                return (T) refreshAhead(key, localKey, entry, valueLoader);
+            }
+            return (T) entry.get();
+        }
+        return (T) loadOnce(key, localKey, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        long start = System.nanoTime();
+        remoteCache.put(key, value);
+        latencyListener.record(Operation.REMOTE_PUT, System.nanoTime() - start);
+        String localKey = toLocalKey(key);
+        localCache.put(localKey, LocalEntry.of(value, expiryFromNow()));
+        invalidationPublisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+        String localKey = toLocalKey(key);
+        if (existing == null) {
+            localCache.put(localKey, LocalEntry.of(value, expiryFromNow()));
+            invalidationPublisher.publishEvict(name, localKey);
+        } else {
+            localCache.put(localKey, LocalEntry.of(existing.get(), remoteExpiry(localKey)));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        remoteEvictions.increment();
+        String localKey = toLocalKey(key);
+        localCache.invalidate(localKey);
+        invalidationPublisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = remoteCache.evictIfPresent(key);
+        if (present) {
+            remoteEvictions.increment();
+        }
+        String localKey = toLocalKey(key);
+        localCache.invalidate(localKey);
+        invalidationPublisher.publishEvict(name, localKey);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.publishClear(name);
+    }
+
+    /**
+     * Local-tier part of a batch read: returns the locally present entries and counts hits and misses.
+     * The caller reads the rest from Redis in one round trip and hands the results back via {@link #putLocal}.
+     */
+    public Map<Object, LocalEntry> getAllLocal(Collection<?> keys) {
+        Map<Object, LocalEntry> present = new HashMap<>();
+        for (Object key : keys) {
+            LocalEntry local = localCache.getIfPresent(toLocalKey(key));
+            if (local != null) {
+                present.put(key, local);
+            }
+        }
+        localHits.add(present.size());
+        localMisses.add(keys.size() - present.size());
+        return present;
+    }
+
+    /**
+     * Stores a value read from or just written to Redis by a batch operation in the local tier only.
+     * Its remaining Redis TTL is not looked up per key, so refresh-ahead does not apply to the entry.
+     */
+    public void putLocal(Object key, Object value) {
+        localCache.put(toLocalKey(key), LocalEntry.of(value, NO_EXPIRY));
+    }
+
+    public void recordRemoteLookups(int hits, int misses) {
+        remoteHits.add(hits);
+        remoteMisses.add(misses);
+    }
+
+    /**
+     * Applies an invalidation received from another node to the local tier only.
+     */
+    public void evictLocal(String localKey) {
+        log.debug("Evicting local entry {} from cache {}", localKey, name);
+        if (localKey == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(localKey);
+        }
+    }
+
+    private LocalEntry lookup(String localKey, Object key) {
+        LocalEntry local = localCache.getIfPresent(localKey);
+        if (local != null) {
+            localHits.increment();
+            return local;
+        }
+        localMisses.increment();
+
+        long start = System.nanoTime();
+        ValueWrapper remote = remoteCache.get(key);
+        latencyListener.record(Operation.REMOTE_GET, System.nanoTime() - start);
+        if (remote == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        LocalEntry entry = LocalEntry.of(remote.get(), remoteExpiry(localKey));
+        localCache.put(localKey, entry);
+        return entry;
+    }
+
+    /**
+     * Single-flight load: the first caller for a key runs the loader, concurrent callers wait for its result.
+     */
+    private Object loadOnce(Object key, String localKey, Callable<?> valueLoader) {
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightLoads.putIfAbsent(localKey, load);
+        if (inFlight != null) {
+            coalescedLoads.increment();
+            try {
+                return inFlight.join();
+            } catch (CompletionException ex) {
+                throw new ValueRetrievalException(key, valueLoader, ex.getCause());
+            }
+        }
+
+        try {
+            // Another caller may have finished loading between our miss and winning the flight
+            ValueWrapper remote = remoteCache.get(key);
+            Object value = remote != null ? remote.get() : timedLoad(valueLoader);
+            if (remote == null) {
+                put(key, value);
+            }
+            load.complete(value);
+            return value;
+        } catch (Throwable ex) {
+            load.completeExceptionally(ex);
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } finally {
+            inFlightLoads.remove(localKey, load);
+        }
+    }
+
+    /**
+     * Recomputes an entry that is about to expire. Only one caller per key does the work;
+     * the others, and the refreshing caller if the loader fails, get the current value.
+     */
+    private Object refreshAhead(Object key, String localKey, LocalEntry entry, Callable<?> valueLoader) {
+        if (inFlightRefreshes.putIfAbsent(localKey, Boolean.TRUE) != null) {
+            return entry.get();
+        }
+        try {
+            Object value = timedLoad(valueLoader);
+            put(key, value);
+            refreshes.increment();
+            return value;
+        } catch (Exception ex) {
+            log.warn("Refresh-ahead of {}:{} failed, serving current value", name, localKey, ex);
+            return entry.get();
+        } finally {
+            inFlightRefreshes.remove(localKey);
+        }
+    }
+
+    private Object timedLoad(Callable<?> valueLoader) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return valueLoader.call();
+        } finally {
+            latencyListener.record(Operation.LOAD, System.nanoTime() - start);
+        }
+    }
+
+    private boolean isDueForRefresh(LocalEntry entry) {
+        return !refreshAheadWindow.isZero()
+                && entry.remoteExpiresAt() != NO_EXPIRY
+                && System.currentTimeMillis() >= entry.remoteExpiresAt() - refreshAheadWindow.toMillis();
+    }
+
+    private long expiryFromNow() {
+        return remoteTtl.isZero() ? NO_EXPIRY : System.currentTimeMillis() + remoteTtl.toMillis();
+    }
+
+    private long remoteExpiry(String localKey) {
+        if (refreshAheadWindow.isZero()) {
+            return NO_EXPIRY;
+        }
+        try {
+            long remaining = remoteTtlLookup.applyAsLong(localKey);
+            return remaining < 0 ? NO_EXPIRY : System.currentTimeMillis() + remaining;
+        } catch (Exception ex) {
+            log.debug("Could not read remaining TTL of {}:{}", name, localKey, ex);
+            return NO_EXPIRY;
+        }
+    }
+
+    public void setLatencyListener(LatencyListener latencyListener) {
+        this.latencyListener = latencyListener;
+    }
+
+    public Cache<String, LocalEntry> getLocalCache() {
+        return localCache;
+    }
+
+    public org.springframework.cache.Cache getRemoteCache() {
+        return remoteCache;
+    }
+
+    public long getLocalHits() {
+        return localHits.sum();
+    }
+
+    public long getLocalMisses() {
+        return localMisses.sum();
+    }
+
+    public long getRemoteHits() {
+        return remoteHits.sum();
+    }
+
+    public long getRemoteMisses() {
+        return remoteMisses.sum();
+    }
+
+    public long getRemoteEvictions() {
+        return remoteEvictions.sum();
+    }
+
+    public long getCoalescedLoads() {
+        return coalescedLoads.sum();
+    }
+
+    public long getRefreshes() {
+        return refreshes.sum();
+    }
+
+    static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    /**
+     * Redis round trips and value loads, timed separately so cache latency can be told apart from database latency.
+     */
+    public enum Operation {
+        REMOTE_GET, REMOTE_PUT, LOAD
+    }
+
+    @FunctionalInterface
+    public interface LatencyListener {
+
+        LatencyListener NONE = (operation, nanos) -> { };
+
+        void record(Operation operation, long nanos);
+    }
+
+    /**
+     * Local copy of a cached value together with the time its Redis entry expires.
+     */
+    public record LocalEntry(Object value, long remoteExpiresAt) implements ValueWrapper {
+
+        static LocalEntry of(Object value, long remoteExpiresAt) {
+            return new LocalEntry(value, remoteExpiresAt);
+        }
+
+        @Override
+        public Object get() {
+            return value;
+        }
+    }
+}
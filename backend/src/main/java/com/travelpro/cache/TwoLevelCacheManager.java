@@ -0,0 +1,115 @@
+package com.travelpro.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Decorates the Redis {@link CacheManager} with a size-bounded local tier per cache name.
+ * Local entries are weighed by their serialized size and never outlive the Redis TTL of their cache.
+ * Entries within {@code refreshAheadRatio} of their Redis TTL are recomputed ahead of expiry.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final RedisSerializer<Object> valueSerializer;
+    private final Map<String, Duration> remoteTtls;
+    private final Duration defaultRemoteTtl;
+    private final Duration localTtl;
+    private final long localMaxWeightBytes;
+    private final double refreshAheadRatio;
+    private final BiFunction<String, String, Long> remoteTtlLookup;
+
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                CacheInvalidationPublisher invalidationPublisher,
+                                RedisSerializer<Object> valueSerializer,
+                                Map<String, Duration> remoteTtls,
+                                Duration defaultRemoteTtl,
+                                Duration localTtl,
+                                long localMaxWeightBytes,
+                                double refreshAheadRatio,
+                                BiFunction<String, String, Long> remoteTtlLookup) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.invalidationPublisher = invalidationPublisher;
+        this.valueSerializer = valueSerializer;
+        this.remoteTtls = remoteTtls;
+        this.defaultRemoteTtl = defaultRemoteTtl;
+        this.localTtl = localTtl;
+        this.localMaxWeightBytes = localMaxWeightBytes;
+        this.refreshAheadRatio = refreshAheadRatio;
+        this.remoteTtlLookup = remoteTtlLookup;
+        remoteTtls.keySet().forEach(this::getCache);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> createCache(cacheName, remoteCache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    public Collection<TwoLevelCache> getCaches() {
+        return Collections.unmodifiableCollection(caches.values());
+    }
+
+    public void evictLocal(String cacheName, String key) {
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.evictLocal(key);
+        }
+    }
+
+    private TwoLevelCache createCache(String name, Cache remoteCache) {
+        Duration remoteTtl = remoteTtls.getOrDefault(name, defaultRemoteTtl);
+        Duration ttl = localTtl.compareTo(remoteTtl) < 0 ? localTtl : remoteTtl;
+        log.debug("Creating two-level cache {} with local ttl {} and max weight {} bytes", name, ttl, localMaxWeightBytes);
+
+        com.github.benmanes.caffeine.cache.Cache<String, TwoLevelCache.LocalEntry> localCache = Caffeine.newBuilder()
+                .maximumWeight(localMaxWeightBytes)
+                .<String, TwoLevelCache.LocalEntry>weigher(this::weigh)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        Duration refreshAheadWindow = Duration.ofMillis((long) (remoteTtl.toMillis() * refreshAheadRatio));
+        return new TwoLevelCache(name, localCache, remoteCache, invalidationPublisher,
+                remoteTtl, refreshAheadWindow, localKey -> remoteTtlLookup.apply(name, localKey));
+    }
+
+    private int weigh(String key, TwoLevelCache.LocalEntry wrapper) {
+        Object value = wrapper.get();
+        if (value == null) {
+            return key.length();
+        }
+        try {
+            byte[] bytes = valueSerializer.serialize(value);
+            return key.length() + (bytes != null ? bytes.length : 0);
+        } catch (Exception ex) {
+            log.debug("Could not weigh value for key {}, treating it as maximum size", key, ex);
+            return (int) Math.min(Integer.MAX_VALUE, localMaxWeightBytes);
+        }
+    }
+}
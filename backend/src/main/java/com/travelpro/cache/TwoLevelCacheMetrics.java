@@ -0,0 +1,88 @@
+package com.travelpro.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exposes per-tier hit, miss and eviction counts of every {@link TwoLevelCache} through Actuator,
+ * and times Redis round trips and value loads per cache as {@code cache.latency}.
+ */
+@RequiredArgsConstructor
+public class TwoLevelCacheMetrics implements MeterBinder {
+
+    private static final String LOCAL = "local";
+    private static final String REMOTE = "remote";
+
+    private final TwoLevelCacheManager cacheManager;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (TwoLevelCache cache : cacheManager.getCaches()) {
+            String name = cache.getName();
+
+            counter(registry, cache, name, "cache.gets", LOCAL, "hit", TwoLevelCache::getLocalHits);
+            counter(registry, cache, name, "cache.gets", LOCAL, "miss", TwoLevelCache::getLocalMisses);
+            counter(registry, cache, name, "cache.gets", REMOTE, "hit", TwoLevelCache::getRemoteHits);
+            counter(registry, cache, name, "cache.gets", REMOTE, "miss", TwoLevelCache::getRemoteMisses);
+
+            FunctionCounter.builder("cache.loads.coalesced", cache, TwoLevelCache::getCoalescedLoads)
+                    .tags("cache", name)
+                    .description("Misses that waited for a concurrent load of the same key instead of loading")
+                    .register(registry);
+            FunctionCounter.builder("cache.refreshes", cache, TwoLevelCache::getRefreshes)
+                    .tags("cache", name)
+                    .description("Entries recomputed ahead of their expiry")
+                    .register(registry);
+
+            FunctionCounter.builder("cache.evictions", cache, c -> localStats(c).evictionCount())
+                    .tags("cache", name, "tier", LOCAL)
+                    .description("Entries evicted from the local tier because of size or expiry")
+                    .register(registry);
+            FunctionCounter.builder("cache.evictions", cache, TwoLevelCache::getRemoteEvictions)
+                    .tags("cache", name, "tier", REMOTE)
+                    .description("Entries explicitly evicted from the remote tier")
+                    .register(registry);
+
+            Map<TwoLevelCache.Operation, Timer> timers = new EnumMap<>(TwoLevelCache.Operation.class);
+            for (TwoLevelCache.Operation operation : TwoLevelCache.Operation.values()) {
+                timers.put(operation, Timer.builder("cache.latency")
+                        .tags("cache", name, "operation", operation.name().toLowerCase())
+                        .description("Time spent in Redis (remote_get, remote_put) and in loading values on a miss (load)")
+                        .publishPercentileHistogram()
+                        .register(registry));
+            }
+            cache.setLatencyListener((operation, nanos) -> timers.get(operation).record(nanos, TimeUnit.NANOSECONDS));
+
+            Gauge.builder("cache.size", cache, c -> c.getLocalCache().estimatedSize())
+                    .tags("cache", name, "tier", LOCAL)
+                    .register(registry);
+            Gauge.builder("cache.local.weight", cache, c -> c.getLocalCache().policy().eviction()
+                            .flatMap(eviction -> eviction.weightedSize().stream().boxed().findFirst())
+                            .orElse(0L))
+                    .tags("cache", name)
+                    .baseUnit("bytes")
+                    .register(registry);
+        }
+    }
+
+    private void counter(MeterRegistry registry, TwoLevelCache cache, String name, String meter,
+                         String tier, String result, ToDoubleFunction<TwoLevelCache> count) {
+        FunctionCounter.builder(meter, cache, count)
+                .tags("cache", name, "tier", tier, "result", result)
+                .register(registry);
+    }
+
+    private static CacheStats localStats(TwoLevelCache cache) {
+        return cache.getLocalCache().stats();
+    }
+}
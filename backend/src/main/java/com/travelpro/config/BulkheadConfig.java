@@ -0,0 +1,72 @@
+package com.travelpro.config;
+
+import com.travelpro.bulkhead.Bulkhead;
+import com.travelpro.bulkhead.BulkheadDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Bulkheads in front of shared resources. Matters most with {@code spring.threads.virtual.enabled},
+ * where request concurrency is no longer bounded by the Tomcat thread pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.bulkhead.database.enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadConfig {
+
+    private static final Set<String> GUARDED_DATA_SOURCES = Set.of("dataSource", "primaryDataSource");
+
+    @Bean
+    public Bulkhead databaseBulkhead(
+            @Value("${app.bulkhead.database.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+            @Value("${app.bulkhead.database.max-wait:2s}") Duration maxWait) {
+        return new Bulkhead("database", maxConcurrent, maxWait);
+    }
+
+    @Bean
+    public static BeanPostProcessor databaseBulkheadPostProcessor(
+            ObjectProvider<Bulkhead> databaseBulkhead) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // With read replicas, "dataSource" is a lazy routing proxy and the bulkhead guards the
+                // primary pool it is sized to; replica pools fail fast through their own connection-timeout
+                if (GUARDED_DATA_SOURCES.contains(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof BulkheadDataSource) && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                    return new BulkheadDataSource(dataSource, databaseBulkhead.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder databaseBulkheadMetrics(Bulkhead databaseBulkhead) {
+        return registry -> {
+            String name = databaseBulkhead.getName();
+            Gauge.builder("bulkhead.available", databaseBulkhead, Bulkhead::getAvailable)
+                    .tags("bulkhead", name)
+                    .description("Permits currently free")
+                    .register(registry);
+            Gauge.builder("bulkhead.queued", databaseBulkhead, Bulkhead::getQueued)
+                    .tags("bulkhead", name)
+                    .description("Callers waiting for a permit")
+                    .register(registry);
+            FunctionCounter.builder("bulkhead.rejections", databaseBulkhead, Bulkhead::getRejections)
+                    .tags("bulkhead", name)
+                    .description("Callers rejected after waiting the maximum time")
+                    .register(registry);
+        };
+    }
+}
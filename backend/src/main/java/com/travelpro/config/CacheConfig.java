@@ -1,51 +1,181 @@
 package com.travelpro.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.travelpro.cache.CacheBatchLoader;
+import com.travelpro.cache.CacheInvalidationListener;
+import com.travelpro.cache.CacheInvalidationMessage;
+import com.travelpro.cache.CacheInvalidationPublisher;
+import com.travelpro.cache.CacheInvalidator;
+import com.travelpro.cache.DatabaseChangeListener;
+import com.travelpro.cache.TwoLevelCacheManager;
+import com.travelpro.cache.TwoLevelCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    private final GenericJackson2JsonRedisSerializer valueSerializer = redisValueSerializer();
+
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))
+                .entryTtl(DEFAULT_TTL)
                 .serializeKeysWith(RedisSerializationContext.SerializationPair
                         .fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair
-                        .fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                        .fromSerializer(valueSerializer));
 
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
-        
-        // Cache configurations for different cache names
-        cacheConfigurations.put("destinations", defaultConfig.entryTtl(Duration.ofHours(1)));
-        cacheConfigurations.put("destination", defaultConfig.entryTtl(Duration.ofHours(2)));
-        cacheConfigurations.put("featuredDestinations", defaultConfig.entryTtl(Duration.ofHours(6)));
-        cacheConfigurations.put("topDestinations", defaultConfig.entryTtl(Duration.ofHours(6)));
-        cacheConfigurations.put("destinationCategories", defaultConfig.entryTtl(Duration.ofHours(12)));
-        
-        cacheConfigurations.put("blogPosts", defaultConfig.entryTtl(Duration.ofMinutes(30)));
-        cacheConfigurations.put("blogPost", defaultConfig.entryTtl(Duration.ofHours(1)));
-        cacheConfigurations.put("featuredBlogPosts", defaultConfig.entryTtl(Duration.ofHours(2)));
-        cacheConfigurations.put("blogCategories", defaultConfig.entryTtl(Duration.ofHours(12)));
-        cacheConfigurations.put("blogCategory", defaultConfig.entryTtl(Duration.ofHours(12)));
-
-        return RedisCacheManager.builder(redisConnectionFactory)
+        cacheTtls().forEach((name, ttl) -> cacheConfigurations.put(name, defaultConfig.entryTtl(ttl)));
+
+        // Listing caches are cleared on every write; the default writer clears with a blocking KEYS
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory,
+                BatchStrategies.scan(1000));
+
+        return RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
     }
-}
\ No newline at end of file
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "app.cache.local.enabled", havingValue = "true", matchIfMissing = true)
+    public TwoLevelCacheManager cacheManager(RedisCacheManager redisCacheManager,
+                                             CacheInvalidationPublisher cacheInvalidationPublisher,
+                                             @Value("${app.cache.local.ttl:5m}") Duration localTtl,
+                                             @Value("${app.cache.local.max-weight-bytes:16777216}") long localMaxWeightBytes,
+                                             @Value("${app.cache.refresh-ahead-ratio:0.1}") double refreshAheadRatio,
+                                             StringRedisTemplate stringRedisTemplate) {
+        return new TwoLevelCacheManager(redisCacheManager, cacheInvalidationPublisher, valueSerializer,
+                cacheTtls(), DEFAULT_TTL, localTtl, localMaxWeightBytes, refreshAheadRatio,
+                (cacheName, key) -> stringRedisTemplate.getExpire(
+                        CacheKeyPrefix.simple().compute(cacheName) + key, TimeUnit.MILLISECONDS));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.local.enabled", havingValue = "true", matchIfMissing = true)
+    public TwoLevelCacheMetrics twoLevelCacheMetrics(TwoLevelCacheManager cacheManager) {
+        return new TwoLevelCacheMetrics(cacheManager);
+    }
+
+    @Bean
+    public CacheBatchLoader cacheBatchLoader(CacheManager cacheManager, RedisConnectionFactory redisConnectionFactory) {
+        return new CacheBatchLoader(cacheManager, redisConnectionFactory, valueSerializer, cacheTtls(), DEFAULT_TTL);
+    }
+
+    @Bean
+    public RedisTemplate<String, CacheInvalidationMessage> cacheInvalidationRedisTemplate(
+            RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, CacheInvalidationMessage> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(invalidationSerializer());
+        return template;
+    }
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(
+            RedisTemplate<String, CacheInvalidationMessage> cacheInvalidationRedisTemplate,
+            @Value("${app.cache.invalidation-channel:travelpro:cache:invalidation}") String channel) {
+        return new CacheInvalidationPublisher(cacheInvalidationRedisTemplate, channel);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.local.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            TwoLevelCacheManager cacheManager,
+            CacheInvalidationPublisher cacheInvalidationPublisher) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+                new CacheInvalidationListener(cacheManager, invalidationSerializer(), cacheInvalidationPublisher.getNodeId()),
+                new ChannelTopic(cacheInvalidationPublisher.getChannel()));
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.db-notify.enabled", havingValue = "true", matchIfMissing = true)
+    public DatabaseChangeListener databaseChangeListener(
+            DataSourceProperties dataSourceProperties,
+            CacheInvalidator cacheInvalidator,
+            ObjectMapper objectMapper,
+            @Value("${app.cache.db-notify.channel:travelpro_cache_invalidation}") String channel,
+            @Value("${app.cache.db-notify.reconnect-delay:10s}") Duration reconnectDelay) {
+        return new DatabaseChangeListener(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword(),
+                channel, reconnectDelay, cacheInvalidator, objectMapper);
+    }
+
+    static Map<String, Duration> cacheTtls() {
+        Map<String, Duration> ttls = new HashMap<>();
+
+        // Cache configurations for different cache names. Writes are evicted by CacheInvalidator,
+        // so TTLs only bound staleness for changes made outside the application and its triggers.
+        ttls.put("destinations", Duration.ofHours(6));
+        ttls.put("destination", Duration.ofHours(12));
+        ttls.put("featuredDestinations", Duration.ofHours(12));
+        ttls.put("topDestinations", Duration.ofHours(12));
+        ttls.put("destinationCategories", Duration.ofHours(12));
+        ttls.put("reviewStats", Duration.ofHours(12));
+
+        ttls.put("blogPosts", Duration.ofHours(6));
+        ttls.put("blogPost", Duration.ofHours(12));
+        ttls.put("featuredBlogPosts", Duration.ofHours(12));
+        ttls.put("blogCategories", Duration.ofHours(12));
+        ttls.put("blogCategory", Duration.ofHours(12));
+
+        ttls.put("users", Duration.ofHours(1));
+
+        // Serialized HTTP responses (ResponseCacheFilter), cleared together with the data they render
+        ttls.put("destinationResponses", Duration.ofHours(1));
+        ttls.put("blogResponses", Duration.ofHours(1));
+        return ttls;
+    }
+
+    /**
+     * Typed JSON for cached values. DTOs carry {@code LocalDateTime} fields, which plain
+     * {@link GenericJackson2JsonRedisSerializer} cannot write.
+     */
+    public static GenericJackson2JsonRedisSerializer redisValueSerializer() {
+        return new GenericJackson2JsonRedisSerializer().configure(objectMapper -> objectMapper
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+    }
+
+    private static Jackson2JsonRedisSerializer<CacheInvalidationMessage> invalidationSerializer() {
+        return new Jackson2JsonRedisSerializer<>(CacheInvalidationMessage.class);
+    }
+}
@@ -0,0 +1,111 @@
+package com.travelpro.config;
+
+import com.travelpro.datasource.ReadReplicaProperties;
+import com.travelpro.datasource.ReadReplicaRoutingDataSource;
+import com.travelpro.datasource.ReadYourWritesFilter;
+import com.travelpro.datasource.ReplicaPool;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Clock;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured pool with a primary pool plus read replicas when
+ * {@code app.datasource.read-replicas.enabled} is set. {@code dataSource} then routes read-only
+ * transactions to the replicas; see {@link ReadReplicaRoutingDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.read-replicas.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            ReadReplicaProperties properties,
+            DataSourceProperties dataSourceProperties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        List<ReplicaPool> replicas = properties.getReplicas().stream()
+                .map(replica -> new ReplicaPool(replica.getName(),
+                        replicaPool(replica, dataSourceProperties, meterRegistry.getIfAvailable())))
+                .toList();
+        return new ReadReplicaRoutingDataSource(primaryDataSource, replicas, properties.getMaxLag());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+        // Hikari and Postgres defaults; setting them avoids opening a connection just to read them
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReadReplicaProperties properties) {
+        return new ReadYourWritesFilter(properties.getStickyWindow(), Clock.systemUTC());
+    }
+
+    @Bean
+    public MeterBinder readReplicaMetrics(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return registry -> {
+            for (ReplicaPool replica : readReplicaRoutingDataSource.getReplicas()) {
+                Gauge.builder("datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                        .tags("replica", replica.getName())
+                        .description("Whether reads are currently routed to the replica")
+                        .register(registry);
+            }
+            FunctionCounter.builder("datasource.replica.fallbacks", readReplicaRoutingDataSource,
+                            ReadReplicaRoutingDataSource::getFallbacks)
+                    .description("Read-only transactions served by the primary because no replica was available")
+                    .register(registry);
+        };
+    }
+
+    private static HikariDataSource replicaPool(ReadReplicaProperties.Replica replica,
+                                                DataSourceProperties primary,
+                                                MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("replica-" + replica.getName());
+        config.setJdbcUrl(replica.getUrl());
+        config.setUsername(StringUtils.hasText(replica.getUsername()) ? replica.getUsername() : primary.determineUsername());
+        config.setPassword(StringUtils.hasText(replica.getPassword()) ? replica.getPassword() : primary.determinePassword());
+        config.setDriverClassName(primary.determineDriverClassName());
+        config.setMaximumPoolSize(replica.getMaximumPoolSize());
+        config.setMinimumIdle(replica.getMinimumIdle());
+        config.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+        config.setReadOnly(true);
+        // A replica that is down at startup must not keep the application from starting
+        config.setInitializationFailTimeout(-1);
+        if (meterRegistry != null) {
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        return new HikariDataSource(config);
+    }
+}
@@ -5,6 +5,7 @@ import com.travelpro.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -60,10 +61,13 @@ public class SecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/auth/**").permitAll()
+                .requestMatchers(HttpMethod.PUT, "/destinations/*/reviews/**").authenticated()
+                .requestMatchers(HttpMethod.DELETE, "/destinations/*/reviews/**").authenticated()
                 .requestMatchers("/destinations/**").permitAll()
                 .requestMatchers("/blog/**").permitAll()
                 .requestMatchers("/weather/**").permitAll()
                 .requestMatchers("/search/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/trips/*").permitAll()
                 .requestMatchers("/actuator/**").permitAll()
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                 .anyRequest().authenticated()
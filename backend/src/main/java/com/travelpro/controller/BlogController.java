@@ -1,7 +1,14 @@
 package com.travelpro.controller;
 
+import com.travelpro.activity.SearchHistoryFilter;
+import com.travelpro.dto.BatchLookupRequest;
+import com.travelpro.dto.BatchLookupResponse;
 import com.travelpro.dto.BlogCategoryDto;
 import com.travelpro.dto.BlogPostDto;
+import com.travelpro.dto.BlogSearchResultDto;
+import com.travelpro.dto.CursorPage;
+import com.travelpro.exception.BadRequestException;
+import com.travelpro.pagination.PageRequests;
 import com.travelpro.service.BlogService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,7 +18,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -37,13 +43,26 @@ public class BlogController {
         
         log.info("GET /blog/posts - page: {}, size: {}, sortBy: {}, sortDir: {}", page, size, sortBy, sortDir);
         
-        Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PageRequests.of(page, size, sortBy, sortDir, BlogService.SORTABLE_FIELDS, "publishedAt");
         
         Page<BlogPostDto> posts = blogService.getAllBlogPosts(pageable);
         return ResponseEntity.ok(posts);
     }
 
+    @GetMapping(value = "/posts", params = "cursor")
+    @Operation(summary = "Scroll blog posts",
+               description = "Keyset-paginated listing of published posts, newest first. Pass an empty cursor " +
+                             "for the first slice and the returned nextCursor for the following ones.")
+    public ResponseEntity<CursorPage<BlogPostDto>> scrollBlogPosts(
+            @Parameter(description = "Continuation token from the previous slice") @RequestParam String cursor,
+            @Parameter(description = "Slice size") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Also count all published posts") @RequestParam(defaultValue = "false") boolean withTotal) {
+        
+        log.info("GET /blog/posts (cursor) - size: {}, withTotal: {}", size, withTotal);
+        
+        return ResponseEntity.ok(blogService.scrollBlogPosts(cursor, size, withTotal));
+    }
+
     @GetMapping("/posts/{slug}")
     @Operation(summary = "Get blog post by slug", description = "Retrieve a specific blog post by its slug")
     public ResponseEntity<BlogPostDto> getBlogPostBySlug(
@@ -56,6 +75,18 @@ public class BlogController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @PostMapping("/posts/batch")
+    @Operation(summary = "Get blog posts in batch", description = "Retrieve up to 100 blog posts by slug in one request")
+    public ResponseEntity<BatchLookupResponse<BlogPostDto>> getBlogPostsBatch(@RequestBody BatchLookupRequest request) {
+        
+        log.info("POST /blog/posts/batch - slugs: {}", request.getSlugs() != null ? request.getSlugs().size() : 0);
+        
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            throw new BadRequestException("Blog posts are looked up by slug");
+        }
+        return ResponseEntity.ok(blogService.getBlogPostsBatch(request.getSlugs()));
+    }
+
     @GetMapping("/posts/featured")
     @Operation(summary = "Get featured blog posts", description = "Retrieve list of featured blog posts")
     public ResponseEntity<List<BlogPostDto>> getFeaturedBlogPosts() {
@@ -66,20 +97,17 @@ public class BlogController {
     }
 
     @GetMapping("/posts/search")
-    @Operation(summary = "Search blog posts", description = "Search blog posts by query string")
-    public ResponseEntity<Page<BlogPostDto>> searchBlogPosts(
+    @Operation(summary = "Search blog posts",
+               description = "Full-text search over published posts, ranked by relevance with highlighted snippets")
+    public ResponseEntity<Page<BlogSearchResultDto>> searchBlogPosts(
             @Parameter(description = "Search query") @RequestParam String q,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sort field") @RequestParam(defaultValue = "publishedAt") String sortBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir) {
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
         
         log.info("GET /blog/posts/search - query: {}, page: {}, size: {}", q, page, size);
         
-        Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
-        
-        Page<BlogPostDto> posts = blogService.searchBlogPosts(q, pageable);
+        Page<BlogSearchResultDto> posts = blogService.searchBlogPosts(q, PageRequest.of(page, size));
+        SearchHistoryFilter.recordResultsCount(posts.getTotalElements());
         return ResponseEntity.ok(posts);
     }
 
@@ -94,8 +122,7 @@ public class BlogController {
         
         log.info("GET /blog/posts/category/{} - page: {}, size: {}", categoryId, page, size);
         
-        Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PageRequests.of(page, size, sortBy, sortDir, BlogService.SORTABLE_FIELDS, "publishedAt");
         
         Page<BlogPostDto> posts = blogService.getBlogPostsByCategory(categoryId, pageable);
         return ResponseEntity.ok(posts);
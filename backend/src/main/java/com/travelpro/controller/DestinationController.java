@@ -1,6 +1,16 @@
 package com.travelpro.controller;
 
+import com.travelpro.activity.SearchHistoryFilter;
+import com.travelpro.dto.BatchLookupRequest;
+import com.travelpro.dto.BatchLookupResponse;
+import com.travelpro.dto.CursorPage;
 import com.travelpro.dto.DestinationDto;
+import com.travelpro.dto.DestinationFacetsDto;
+import com.travelpro.dto.DestinationSummaryDto;
+import com.travelpro.dto.NearbyDestinationDto;
+import com.travelpro.facet.FacetIndex;
+import com.travelpro.facet.FacetQuery;
+import com.travelpro.pagination.PageRequests;
 import com.travelpro.service.DestinationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,7 +24,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -28,7 +42,7 @@ public class DestinationController {
 
     @GetMapping
     @Operation(summary = "Get all destinations", description = "Retrieve paginated list of all active destinations")
-    public ResponseEntity<Page<DestinationDto>> getAllDestinations(
+    public ResponseEntity<Page<DestinationSummaryDto>> getAllDestinations(
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Sort field") @RequestParam(defaultValue = "name") String sortBy,
@@ -36,13 +50,27 @@ public class DestinationController {
         
         log.info("GET /destinations - page: {}, size: {}, sortBy: {}, sortDir: {}", page, size, sortBy, sortDir);
         
-        Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PageRequests.of(page, size, sortBy, sortDir, DestinationService.SORTABLE_FIELDS, "name");
         
-        Page<DestinationDto> destinations = destinationService.getAllDestinations(pageable);
+        Page<DestinationSummaryDto> destinations = destinationService.getAllDestinations(pageable);
         return ResponseEntity.ok(destinations);
     }
 
+    @GetMapping(params = "cursor")
+    @Operation(summary = "Scroll destinations",
+               description = "Keyset-paginated listing for infinite scroll. Pass an empty cursor for the first slice " +
+                             "and the returned nextCursor for the following ones.")
+    public ResponseEntity<CursorPage<DestinationSummaryDto>> scrollDestinations(
+            @Parameter(description = "Continuation token from the previous slice") @RequestParam String cursor,
+            @Parameter(description = "Slice size") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sort order: name or rating") @RequestParam(defaultValue = "name") String sortBy,
+            @Parameter(description = "Also count all matching destinations") @RequestParam(defaultValue = "false") boolean withTotal) {
+        
+        log.info("GET /destinations (cursor) - size: {}, sortBy: {}, withTotal: {}", size, sortBy, withTotal);
+        
+        return ResponseEntity.ok(destinationService.scrollDestinations(cursor, size, sortBy, withTotal));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get destination by ID", description = "Retrieve a specific destination by its ID")
     public ResponseEntity<DestinationDto> getDestinationById(
@@ -67,31 +95,82 @@ public class DestinationController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Get destinations in batch", description = "Retrieve up to 100 destinations by ID and/or slug in one request")
+    public ResponseEntity<BatchLookupResponse<DestinationDto>> getDestinationsBatch(@RequestBody BatchLookupRequest request) {
+        
+        log.info("POST /destinations/batch - ids: {}, slugs: {}",
+                request.getIds() != null ? request.getIds().size() : 0,
+                request.getSlugs() != null ? request.getSlugs().size() : 0);
+        
+        return ResponseEntity.ok(destinationService.getDestinationsBatch(request.getIds(), request.getSlugs()));
+    }
+
     @GetMapping("/featured")
     @Operation(summary = "Get featured destinations", description = "Retrieve list of featured destinations")
-    public ResponseEntity<List<DestinationDto>> getFeaturedDestinations() {
+    public ResponseEntity<List<DestinationSummaryDto>> getFeaturedDestinations() {
         log.info("GET /destinations/featured");
         
-        List<DestinationDto> destinations = destinationService.getFeaturedDestinations();
+        List<DestinationSummaryDto> destinations = destinationService.getFeaturedDestinations();
         return ResponseEntity.ok(destinations);
     }
 
     @GetMapping("/top")
     @Operation(summary = "Get top destinations", description = "Retrieve top-rated destinations")
-    public ResponseEntity<List<DestinationDto>> getTopDestinations() {
+    public ResponseEntity<List<DestinationSummaryDto>> getTopDestinations() {
         log.info("GET /destinations/top");
         
-        List<DestinationDto> destinations = destinationService.getTopDestinations();
+        List<DestinationSummaryDto> destinations = destinationService.getTopDestinations();
         return ResponseEntity.ok(destinations);
     }
 
+    @GetMapping("/nearby")
+    @Operation(summary = "Get nearby destinations", description = "Nearest active destinations within a radius, closest first")
+    public ResponseEntity<List<NearbyDestinationDto>> getNearbyDestinations(
+            @Parameter(description = "Latitude in degrees") @RequestParam double lat,
+            @Parameter(description = "Longitude in degrees") @RequestParam double lng,
+            @Parameter(description = "Search radius in kilometres (max 1000)") @RequestParam(defaultValue = "50") double radiusKm,
+            @Parameter(description = "Maximum number of results (max 100)") @RequestParam(defaultValue = "10") int limit) {
+        
+        log.info("GET /destinations/nearby - lat: {}, lng: {}, radiusKm: {}, limit: {}", lat, lng, radiusKm, limit);
+        
+        return ResponseEntity.ok(destinationService.getNearbyDestinations(lat, lng, radiusKm, limit));
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "Faceted destination filtering", description = "Filtered destinations in name order with counts for every facet value")
+    public ResponseEntity<DestinationFacetsDto> getDestinationFacets(
+            @Parameter(description = "Categories (any of)") @RequestParam(required = false) List<String> category,
+            @Parameter(description = "Countries (any of)") @RequestParam(required = false) List<String> country,
+            @Parameter(description = "Difficulty levels (any of)") @RequestParam(required = false) List<String> difficulty,
+            @Parameter(description = "Months with pleasant weather, 1-12 (any of)") @RequestParam(required = false) List<String> month,
+            @Parameter(description = "Minimum rating") @RequestParam(required = false) Double minRating,
+            @Parameter(description = "Maximum rating") @RequestParam(required = false) Double maxRating,
+            @Parameter(description = "Minimum daily cost") @RequestParam(required = false) Double minPrice,
+            @Parameter(description = "Maximum daily cost") @RequestParam(required = false) Double maxPrice,
+            @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
+        
+        log.info("GET /destinations/facets - category: {}, country: {}, difficulty: {}, month: {}, page: {}, size: {}",
+                category, country, difficulty, month, page, size);
+        
+        Map<String, Set<String>> selections = new HashMap<>();
+        putSelection(selections, FacetIndex.CATEGORY, category);
+        putSelection(selections, FacetIndex.COUNTRY, country);
+        putSelection(selections, FacetIndex.DIFFICULTY, difficulty);
+        putSelection(selections, FacetIndex.MONTH, month);
+        FacetQuery query = new FacetQuery(selections, minRating, maxRating, minPrice, maxPrice);
+        
+        return ResponseEntity.ok(destinationService.getDestinationFacets(query, page, size));
+    }
+
     @GetMapping("/search")
-    @Operation(summary = "Search destinations", description = "Search destinations by query string")
+    @Operation(summary = "Search destinations", description = "Ranked, prefix-matching full-text search over destinations and their locations")
     public ResponseEntity<Page<DestinationDto>> searchDestinations(
             @Parameter(description = "Search query") @RequestParam String q,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sort field") @RequestParam(defaultValue = "name") String sortBy,
+            @Parameter(description = "Sort field, or 'relevance' for ranked results") @RequestParam(defaultValue = "relevance") String sortBy,
             @Parameter(description = "Sort direction") @RequestParam(defaultValue = "asc") String sortDir) {
         
         log.info("GET /destinations/search - query: {}, page: {}, size: {}", q, page, size);
@@ -100,12 +179,13 @@ public class DestinationController {
         Pageable pageable = PageRequest.of(page, size, sort);
         
         Page<DestinationDto> destinations = destinationService.searchDestinations(q, pageable);
+        SearchHistoryFilter.recordResultsCount(destinations.getTotalElements());
         return ResponseEntity.ok(destinations);
     }
 
     @GetMapping("/category/{category}")
     @Operation(summary = "Get destinations by category", description = "Retrieve destinations filtered by category")
-    public ResponseEntity<Page<DestinationDto>> getDestinationsByCategory(
+    public ResponseEntity<Page<DestinationSummaryDto>> getDestinationsByCategory(
             @Parameter(description = "Destination category") @PathVariable String category,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
@@ -114,16 +194,15 @@ public class DestinationController {
         
         log.info("GET /destinations/category/{} - page: {}, size: {}", category, page, size);
         
-        Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PageRequests.of(page, size, sortBy, sortDir, DestinationService.SORTABLE_FIELDS, "name");
         
-        Page<DestinationDto> destinations = destinationService.getDestinationsByCategory(category, pageable);
+        Page<DestinationSummaryDto> destinations = destinationService.getDestinationsByCategory(category, pageable);
         return ResponseEntity.ok(destinations);
     }
 
     @GetMapping("/filter")
     @Operation(summary = "Filter destinations", description = "Filter destinations by multiple criteria")
-    public ResponseEntity<Page<DestinationDto>> filterDestinations(
+    public ResponseEntity<Page<DestinationSummaryDto>> filterDestinations(
             @Parameter(description = "Category filter") @RequestParam(required = false) String category,
             @Parameter(description = "Country filter") @RequestParam(required = false) String country,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
@@ -134,7 +213,7 @@ public class DestinationController {
         log.info("GET /destinations/filter - category: {}, country: {}, page: {}, size: {}", 
                 category, country, page, size);
         
-        Page<DestinationDto> destinations = destinationService.getDestinationsWithFilters(
+        Page<DestinationSummaryDto> destinations = destinationService.getDestinationsWithFilters(
                 category, country, page, size, sortBy, sortDir);
         return ResponseEntity.ok(destinations);
     }
@@ -147,4 +226,10 @@ public class DestinationController {
         List<String> categories = destinationService.getAllCategories();
         return ResponseEntity.ok(categories);
     }
-}
\ No newline at end of file
+
+    private static void putSelection(Map<String, Set<String>> selections, String facet, List<String> values) {
+        if (values != null && !values.isEmpty()) {
+            selections.put(facet, new HashSet<>(values));
+        }
+    }
+}
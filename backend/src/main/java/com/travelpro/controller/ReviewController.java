@@ -0,0 +1,82 @@
+package com.travelpro.controller;
+
+import com.travelpro.dto.CursorPage;
+import com.travelpro.dto.DestinationReviewDto;
+import com.travelpro.dto.ReviewRequest;
+import com.travelpro.dto.ReviewStatsDto;
+import com.travelpro.service.ReviewService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/destinations/{destinationId}/reviews")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Reviews", description = "Destination review APIs")
+public class ReviewController {
+
+    private final ReviewService reviewService;
+
+    @GetMapping
+    @Operation(summary = "Scroll reviews",
+               description = "Keyset-paginated reviews, newest first or most helpful first. Pass the returned " +
+                             "nextCursor to get the following slice.")
+    public ResponseEntity<CursorPage<DestinationReviewDto>> getReviews(
+            @Parameter(description = "Destination ID") @PathVariable UUID destinationId,
+            @Parameter(description = "Continuation token from the previous slice") @RequestParam(defaultValue = "") String cursor,
+            @Parameter(description = "Slice size") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sort order: newest or helpful") @RequestParam(defaultValue = "newest") String sortBy,
+            @Parameter(description = "Also return the number of reviews") @RequestParam(defaultValue = "false") boolean withTotal) {
+
+        log.info("GET /destinations/{}/reviews - size: {}, sortBy: {}", destinationId, size, sortBy);
+
+        return ResponseEntity.ok(reviewService.getReviews(destinationId, cursor, size, sortBy, withTotal));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get review statistics",
+               description = "Average rating, review count, rating histogram and averages per travel type")
+    public ResponseEntity<ReviewStatsDto> getReviewStats(
+            @Parameter(description = "Destination ID") @PathVariable UUID destinationId) {
+
+        log.info("GET /destinations/{}/reviews/stats", destinationId);
+
+        return ResponseEntity.ok(reviewService.getReviewStats(destinationId));
+    }
+
+    @PutMapping("/mine")
+    @Operation(summary = "Write my review",
+               description = "Creates or replaces the caller's review. The destination's rating follows within " +
+                             "app.reviews.flush-interval.")
+    public ResponseEntity<DestinationReviewDto> saveReview(
+            @Parameter(description = "Destination ID") @PathVariable UUID destinationId,
+            @Valid @RequestBody ReviewRequest request,
+            @AuthenticationPrincipal UserDetails user) {
+
+        log.info("PUT /destinations/{}/reviews/mine", destinationId);
+
+        return ResponseEntity.ok(reviewService.saveReview(destinationId, user.getUsername(), request));
+    }
+
+    @DeleteMapping("/mine")
+    @Operation(summary = "Delete my review")
+    public ResponseEntity<Void> deleteReview(
+            @Parameter(description = "Destination ID") @PathVariable UUID destinationId,
+            @AuthenticationPrincipal UserDetails user) {
+
+        log.info("DELETE /destinations/{}/reviews/mine", destinationId);
+
+        reviewService.deleteReview(destinationId, user.getUsername());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.travelpro.controller;
+
+import com.travelpro.dto.SearchSuggestionDto;
+import com.travelpro.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Search", description = "Search autocomplete APIs")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest completions",
+               description = "Destinations, places, blog posts and popular searches starting with the typed prefix, " +
+                             "most searched first")
+    public ResponseEntity<List<SearchSuggestionDto>> suggest(
+            @Parameter(description = "Typed prefix") @RequestParam(defaultValue = "") String q,
+            @Parameter(description = "Maximum number of suggestions") @RequestParam(defaultValue = "8") int limit) {
+
+        // Called on every keystroke, so not logged at info like the other endpoints
+        log.debug("GET /search/suggest - q: {}, limit: {}", q, limit);
+
+        return ResponseEntity.ok(searchService.suggest(q, limit));
+    }
+}
@@ -0,0 +1,86 @@
+package com.travelpro.controller;
+
+import com.travelpro.dto.TripPlanDto;
+import com.travelpro.dto.TripPlanRequest;
+import com.travelpro.service.TripPlanService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/trips")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Trips", description = "Trip planning APIs")
+public class TripPlanController {
+
+    private final TripPlanService tripPlanService;
+
+    @GetMapping
+    @Operation(summary = "Get my trip plans", description = "The caller's trip plans without their days, latest trip first")
+    public ResponseEntity<List<TripPlanDto>> getTripPlans(@AuthenticationPrincipal UserDetails user) {
+
+        log.info("GET /trips");
+
+        return ResponseEntity.ok(tripPlanService.getTripPlans(user.getUsername()));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get trip plan", description = "A public plan, or one of the caller's, with its days, activities and attractions")
+    public ResponseEntity<TripPlanDto> getTripPlan(
+            @Parameter(description = "Trip plan ID") @PathVariable UUID id,
+            @AuthenticationPrincipal UserDetails user) {
+
+        log.info("GET /trips/{}", id);
+
+        return ResponseEntity.ok(tripPlanService.getTripPlan(id, user != null ? user.getUsername() : null));
+    }
+
+    @PostMapping
+    @Operation(summary = "Create trip plan", description = "Create a plan together with its days and activities")
+    public ResponseEntity<TripPlanDto> createTripPlan(
+            @Valid @RequestBody TripPlanRequest request,
+            @AuthenticationPrincipal UserDetails user) {
+
+        log.info("POST /trips - {} days", request.getDays().size());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(tripPlanService.createTripPlan(user.getUsername(), request));
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "Update trip plan",
+               description = "Replace the plan with the given state. Days are matched by dayNumber and activities by id; " +
+                             "only changes are written")
+    public ResponseEntity<TripPlanDto> updateTripPlan(
+            @Parameter(description = "Trip plan ID") @PathVariable UUID id,
+            @Valid @RequestBody TripPlanRequest request,
+            @AuthenticationPrincipal UserDetails user) {
+
+        log.info("PUT /trips/{} - {} days", id, request.getDays().size());
+
+        return ResponseEntity.ok(tripPlanService.updateTripPlan(id, user.getUsername(), request));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete trip plan")
+    public ResponseEntity<Void> deleteTripPlan(
+            @Parameter(description = "Trip plan ID") @PathVariable UUID id,
+            @AuthenticationPrincipal UserDetails user) {
+
+        log.info("DELETE /trips/{}", id);
+
+        tripPlanService.deleteTripPlan(id, user.getUsername());
+        return ResponseEntity.noContent().build();
+    }
+}
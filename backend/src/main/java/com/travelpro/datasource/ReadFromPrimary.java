@@ -0,0 +1,18 @@
+package com.travelpro.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sends the method's read-only transactions to the primary. For methods that put what they read into a
+ * shared cache: read from a lagging replica right after an eviction, the old row would be cached again
+ * for the entry's whole TTL. {@code @Cacheable} methods are treated this way without the annotation.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadFromPrimary {
+}
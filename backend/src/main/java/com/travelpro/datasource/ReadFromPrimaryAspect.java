@@ -0,0 +1,31 @@
+package com.travelpro.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pins {@link ReadFromPrimary} and {@code @Cacheable} methods to the primary while they run. Cache loaders,
+ * including refresh-ahead reloads, run on the calling thread, so this covers every cache population.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ReadFromPrimaryAspect {
+
+    @Around("@annotation(com.travelpro.datasource.ReadFromPrimary) || "
+            + "@annotation(org.springframework.cache.annotation.Cacheable)")
+    public Object readFromPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean alreadyPinned = ReadYourWrites.pinToPrimary();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (!alreadyPinned) {
+                ReadYourWrites.unpinFromPrimary();
+            }
+        }
+    }
+}
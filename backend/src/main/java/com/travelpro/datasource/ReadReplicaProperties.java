@@ -0,0 +1,48 @@
+package com.travelpro.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code app.datasource.read-replicas.*}. The primary keeps its {@code spring.datasource} settings; each
+ * replica gets its own Hikari pool and defaults to the primary's credentials.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.read-replicas")
+public class ReadReplicaProperties {
+
+    private boolean enabled;
+
+    /**
+     * How often replicas are probed. A replica that fails a probe or a connection checkout is skipped
+     * until a later probe succeeds.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+    /**
+     * Replicas further behind the primary than this are skipped; zero disables the lag check.
+     */
+    private Duration maxLag = Duration.ofSeconds(30);
+
+    /**
+     * After a client's write, its reads go to the primary for this long; zero disables stickiness.
+     */
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Data
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        private int minimumIdle = 2;
+        private Duration connectionTimeout = Duration.ofSeconds(2);
+    }
+}
@@ -0,0 +1,101 @@
+package com.travelpro.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends read-only transactions to the healthy replicas in turn and everything else to the primary.
+ * If no replica is healthy, or checking a connection out of each fails, the read falls back to the primary.
+ *
+ * <p>The transaction's read-only flag is only set after the transaction manager asks for a connection,
+ * so this must sit behind a {@code LazyConnectionDataSourceProxy}, which defers the checkout to the
+ * first statement.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private final DataSource primary;
+    private final List<ReplicaPool> replicas;
+    private final Duration maxLag;
+
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, List<ReplicaPool> replicas, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWrites.recordWrite();
+            }
+            return primary.getConnection();
+        }
+        if (ReadYourWrites.isPinned()) {
+            return primary.getConnection();
+        }
+        int start = next.getAndIncrement();
+        for (int i = 0; i < replicas.size(); i++) {
+            ReplicaPool replica = replicas.get(Math.floorMod(start + i, replicas.size()));
+            if (!replica.isHealthy()) {
+                continue;
+            }
+            try {
+                return replica.getConnection();
+            } catch (SQLException ex) {
+                replica.markDown(ex.getMessage());
+            }
+        }
+        fallbacks.incrementAndGet();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.read-replicas.health-check-interval:PT10S}")
+    public void checkHealth() {
+        replicas.forEach(replica -> replica.check(maxLag));
+    }
+
+    public List<ReplicaPool> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Read-only transactions served by the primary because no replica was available.
+     */
+    public long getFallbacks() {
+        return fallbacks.get();
+    }
+
+    @Override
+    public void close() {
+        for (ReplicaPool replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception ex) {
+                    log.warn("Could not close read replica pool {}", replica.getName(), ex);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.travelpro.datasource;
+
+/**
+ * Per-request read-your-writes state, opened by {@link ReadYourWritesFilter}. Once a request writes, or
+ * when the client wrote within the sticky window, its read-only transactions use the primary too.
+ * Outside a request nothing is pinned, except while a {@link ReadFromPrimary} method runs.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * @param onFirstWrite called once, when the request first opens a read-write transaction
+     */
+    public static void begin(boolean pinned, Runnable onFirstWrite) {
+        SCOPE.set(new Scope(pinned, onFirstWrite));
+    }
+
+    public static void end() {
+        SCOPE.remove();
+    }
+
+    static boolean isPinned() {
+        if (PRIMARY.get() != null) {
+            return true;
+        }
+        Scope scope = SCOPE.get();
+        return scope != null && scope.pinned;
+    }
+
+    /**
+     * @return whether the thread was already pinned, in which case it must not be unpinned by the caller
+     */
+    static boolean pinToPrimary() {
+        if (PRIMARY.get() != null) {
+            return true;
+        }
+        PRIMARY.set(Boolean.TRUE);
+        return false;
+    }
+
+    static void unpinFromPrimary() {
+        PRIMARY.remove();
+    }
+
+    static void recordWrite() {
+        Scope scope = SCOPE.get();
+        if (scope != null && !scope.written) {
+            scope.written = true;
+            scope.pinned = true;
+            scope.onFirstWrite.run();
+        }
+    }
+
+    private static final class Scope {
+        private boolean pinned;
+        private boolean written;
+        private final Runnable onFirstWrite;
+
+        private Scope(boolean pinned, Runnable onFirstWrite) {
+            this.pinned = pinned;
+            this.onFirstWrite = onFirstWrite;
+        }
+    }
+}
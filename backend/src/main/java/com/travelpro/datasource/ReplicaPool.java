@@ -0,0 +1,97 @@
+package com.travelpro.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * One read replica and whether reads may currently be routed to it.
+ */
+@Slf4j
+public class ReplicaPool {
+
+    /**
+     * Seconds since the last replayed transaction, or 0 once the replica has replayed everything it received,
+     * so an idle primary does not make its replicas look stale.
+     */
+    static final String LAG_QUERY = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final String name;
+    private final DataSource dataSource;
+
+    private volatile boolean healthy = true;
+
+    public ReplicaPool(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    Connection getConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    /**
+     * Probes the replica and updates its health.
+     *
+     * @param maxLag zero to skip the replication lag check
+     */
+    void check(Duration maxLag) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                markDown("connection is not valid");
+                return;
+            }
+            if (!maxLag.isZero()) {
+                double lagSeconds = lagSeconds(connection);
+                if (lagSeconds * 1000 > maxLag.toMillis()) {
+                    markDown(String.format("replication lag of %.1f s exceeds %s", lagSeconds, maxLag));
+                    return;
+                }
+            }
+            markUp();
+        } catch (SQLException | RuntimeException ex) {
+            markDown(ex.getMessage());
+        }
+    }
+
+    void markDown(String reason) {
+        if (healthy) {
+            log.warn("Read replica {} is unavailable, routing its reads elsewhere: {}", name, reason);
+        }
+        healthy = false;
+    }
+
+    private void markUp() {
+        if (!healthy) {
+            log.info("Read replica {} is available again", name);
+        }
+        healthy = true;
+    }
+
+    private static double lagSeconds(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            return resultSet.next() ? resultSet.getDouble(1) : 0;
+        }
+    }
+}
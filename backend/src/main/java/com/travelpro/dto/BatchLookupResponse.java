@@ -0,0 +1,21 @@
+package com.travelpro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a batch lookup. {@code items} follow the order of the requested keys, ids before slugs,
+ * with duplicates removed; keys that matched nothing are listed in {@code missing}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchLookupResponse<T> {
+    private List<T> items;
+    private List<String> missing;
+}
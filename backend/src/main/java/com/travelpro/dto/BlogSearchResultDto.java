@@ -0,0 +1,28 @@
+package com.travelpro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlogSearchResultDto {
+    private UUID id;
+    private String title;
+    private String slug;
+    private String excerpt;
+    private String authorName;
+    private String featuredImageUrl;
+    private Integer readTime;
+    private LocalDateTime publishedAt;
+    private String categoryName;
+    private String categorySlug;
+    private Float rank;
+    private String snippet;
+}
@@ -0,0 +1,26 @@
+package com.travelpro.dto;
+
+import com.travelpro.facet.FacetCount;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of faceted destination results together with the counts for every facet value.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DestinationFacetsDto {
+    private List<DestinationSummaryDto> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private Map<String, List<FacetCount>> facets;
+}
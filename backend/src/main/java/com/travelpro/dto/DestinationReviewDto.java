@@ -0,0 +1,29 @@
+package com.travelpro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DestinationReviewDto {
+    private UUID id;
+    private UUID destinationId;
+    private String reviewerName;
+    private Integer rating;
+    private String title;
+    private String reviewText;
+    private LocalDate visitDate;
+    private String travelType;
+    private Integer helpfulCount;
+    private Boolean isVerified;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,37 @@
+package com.travelpro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Card-sized view of a destination used by listing endpoints. Fetched directly from the
+ * {@code destination_cards} read model by {@code DestinationCardRepository}, without loading the entity graph.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DestinationSummaryDto {
+    private UUID id;
+    private String name;
+    private String slug;
+    private String category;
+    private String shortDescription;
+    private String mainImageUrl;
+    private BigDecimal rating;
+    private Integer reviewCount;
+    private String bestTimeToVisit;
+    private String recommendedDuration;
+    private String difficultyLevel;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private Boolean isFeatured;
+    private String cityName;
+    private String stateName;
+    private String countryName;
+}
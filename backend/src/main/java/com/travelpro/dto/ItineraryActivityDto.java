@@ -0,0 +1,29 @@
+package com.travelpro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItineraryActivityDto {
+    private UUID id;
+    private String activityType;
+    private String name;
+    private String description;
+    private LocalTime startTime;
+    private String duration;
+    private BigDecimal cost;
+    private String location;
+    private String notes;
+    private Integer sortOrder;
+    private UUID attractionId;
+    private AttractionDto attraction;
+}
@@ -0,0 +1,54 @@
+package com.travelpro.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItineraryActivityRequest {
+
+    /**
+     * Id of the stored activity this entry replaces; absent, or not an activity of the same day, for a new one.
+     */
+    private UUID id;
+
+    private UUID attractionId;
+
+    @NotBlank
+    @Pattern(regexp = "attraction|meal|transport|accommodation",
+             message = "must be one of attraction, meal, transport, accommodation")
+    private String activityType;
+
+    @NotBlank
+    @Size(max = 200)
+    private String name;
+
+    @Size(max = 10000)
+    private String description;
+
+    private LocalTime startTime;
+
+    @Size(max = 50)
+    private String duration;
+
+    @DecimalMin("0")
+    private BigDecimal cost;
+
+    @Size(max = 200)
+    private String location;
+
+    @Size(max = 10000)
+    private String notes;
+}
@@ -0,0 +1,38 @@
+package com.travelpro.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewRequest {
+
+    @NotNull
+    @Min(1)
+    @Max(5)
+    private Integer rating;
+
+    @Size(max = 200)
+    private String title;
+
+    @Size(max = 10000)
+    private String reviewText;
+
+    @PastOrPresent
+    private LocalDate visitDate;
+
+    @Pattern(regexp = "solo|couple|family|friends", message = "must be one of solo, couple, family, friends")
+    private String travelType;
+}
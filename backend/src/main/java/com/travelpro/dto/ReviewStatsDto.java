@@ -0,0 +1,27 @@
+package com.travelpro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Rating summary of a destination, read from the pre-aggregated review statistics.
+ * {@code ratingHistogram} maps each rating from 1 to 5 to its number of reviews.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewStatsDto {
+    private UUID destinationId;
+    private BigDecimal averageRating;
+    private int reviewCount;
+    private Map<Integer, Integer> ratingHistogram;
+    private List<TravelTypeStatsDto> travelTypes;
+}
@@ -0,0 +1,18 @@
+package com.travelpro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TravelTypeStatsDto {
+    private String travelType;
+    private BigDecimal averageRating;
+    private int reviewCount;
+}
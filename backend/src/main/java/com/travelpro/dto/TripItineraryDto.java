@@ -0,0 +1,26 @@
+package com.travelpro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TripItineraryDto {
+    private UUID id;
+    private Integer dayNumber;
+    private LocalDate date;
+    private String title;
+    private String description;
+    private BigDecimal totalCost;
+    private String travelTime;
+    private List<ItineraryActivityDto> activities;
+}
@@ -0,0 +1,41 @@
+package com.travelpro.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One day of a {@link TripPlanRequest}. Its date follows from the plan's start date, its total cost from its
+ * activities, which are stored in the given order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TripItineraryRequest {
+
+    @NotNull
+    @Min(1)
+    private Integer dayNumber;
+
+    @Size(max = 200)
+    private String title;
+
+    @Size(max = 10000)
+    private String description;
+
+    @Size(max = 50)
+    private String travelTime;
+
+    @Valid
+    @Builder.Default
+    private List<ItineraryActivityRequest> activities = new ArrayList<>();
+}
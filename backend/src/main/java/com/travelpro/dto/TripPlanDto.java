@@ -0,0 +1,36 @@
+package com.travelpro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TripPlanDto {
+    private UUID id;
+    private String title;
+    private UUID destinationId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Integer travelersCount;
+    private String budgetRange;
+    private String accommodationType;
+    private String transportMode;
+    private String[] interests;
+    private BigDecimal totalBudget;
+    private String status;
+    private String notes;
+    private Boolean isPublic;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private List<TripItineraryDto> days;
+}
@@ -0,0 +1,75 @@
+package com.travelpro.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The complete desired state of a trip plan. On update, days are matched by {@code dayNumber} and activities
+ * by {@code id} within their day; only what differs from the stored plan is written.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TripPlanRequest {
+
+    @NotBlank
+    @Size(max = 200)
+    private String title;
+
+    private UUID destinationId;
+
+    @NotNull
+    private LocalDate startDate;
+
+    @NotNull
+    private LocalDate endDate;
+
+    @Min(1)
+    @Max(10)
+    private Integer travelersCount;
+
+    @Pattern(regexp = "budget|mid|luxury", message = "must be one of budget, mid, luxury")
+    private String budgetRange;
+
+    @Size(max = 50)
+    private String accommodationType;
+
+    @Size(max = 50)
+    private String transportMode;
+
+    @Size(max = 20)
+    private List<@NotBlank @Size(max = 50) String> interests;
+
+    @DecimalMin("0")
+    private BigDecimal totalBudget;
+
+    @Pattern(regexp = "draft|confirmed|completed|cancelled",
+             message = "must be one of draft, confirmed, completed, cancelled")
+    private String status;
+
+    @Size(max = 10000)
+    private String notes;
+
+    private Boolean isPublic;
+
+    @Valid
+    @Builder.Default
+    private List<TripItineraryRequest> days = new ArrayList<>();
+}
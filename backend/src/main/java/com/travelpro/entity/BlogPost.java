@@ -1,10 +1,13 @@
 package com.travelpro.entity;
 
+import com.travelpro.cache.CacheInvalidationEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -18,7 +21,7 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, CacheInvalidationEntityListener.class})
 public class BlogPost {
 
     @Id
@@ -71,6 +74,12 @@ public class BlogPost {
     @Column(name = "published_at")
     private LocalDateTime publishedAt;
 
+    // Slug as last read from the database, so a rename also evicts the entry cached under the old slug
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String loadedSlug;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
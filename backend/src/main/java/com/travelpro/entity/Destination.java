@@ -1,10 +1,14 @@
 package com.travelpro.entity;
 
+import com.travelpro.cache.CacheInvalidationEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,13 +20,25 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "destinations")
+@NamedEntityGraph(
+    name = Destination.DETAIL_GRAPH,
+    attributeNodes = @NamedAttributeNode(value = "city", subgraph = "city"),
+    subgraphs = {
+        @NamedSubgraph(name = "city", attributeNodes = @NamedAttributeNode(value = "state", subgraph = "state")),
+        @NamedSubgraph(name = "state", attributeNodes = @NamedAttributeNode("country"))
+    }
+)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, CacheInvalidationEntityListener.class})
 public class Destination {
 
+    // Fetches the location chain in the root query; the collections are batch-loaded one query each
+    // so the detail view costs a constant number of statements without a Cartesian product.
+    public static final String DETAIL_GRAPH = "Destination.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -100,15 +116,25 @@ public class Destination {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Slug as last read from the database, so a rename also evicts the entry cached under the old slug
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String loadedSlug;
+
     @OneToMany(mappedBy = "destination", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<Attraction> attractions;
 
     @OneToMany(mappedBy = "destination", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<DestinationImage> images;
 
     @OneToMany(mappedBy = "destination", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<DestinationBudget> budgets;
 
     @OneToMany(mappedBy = "destination", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<DestinationWeather> weather;
 }
\ No newline at end of file
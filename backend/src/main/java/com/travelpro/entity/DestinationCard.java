@@ -0,0 +1,83 @@
+package com.travelpro.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read model behind the destination listings: one flattened row per active destination, including its
+ * city, state and country names. Maintained by database triggers on every write, never by the application.
+ */
+@Entity
+@Immutable
+@Table(name = "destination_cards")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DestinationCard {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false, length = 200)
+    private String name;
+
+    @Column(nullable = false, length = 200)
+    private String slug;
+
+    @Column(nullable = false, length = 50)
+    private String category;
+
+    @Column(name = "short_description", length = 500)
+    private String shortDescription;
+
+    @Column(name = "main_image_url", columnDefinition = "TEXT")
+    private String mainImageUrl;
+
+    @Column(precision = 3, scale = 2)
+    private BigDecimal rating;
+
+    @Column(name = "review_count")
+    private Integer reviewCount;
+
+    @Column(name = "best_time_to_visit", length = 100)
+    private String bestTimeToVisit;
+
+    @Column(name = "recommended_duration", length = 50)
+    private String recommendedDuration;
+
+    @Column(name = "difficulty_level", length = 20)
+    private String difficultyLevel;
+
+    @Column(precision = 10, scale = 8)
+    private BigDecimal latitude;
+
+    @Column(precision = 11, scale = 8)
+    private BigDecimal longitude;
+
+    @Column(name = "is_featured")
+    private Boolean isFeatured;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "city_name", length = 100)
+    private String cityName;
+
+    @Column(name = "state_name", length = 100)
+    private String stateName;
+
+    @Column(name = "country_name", length = 100)
+    private String countryName;
+}
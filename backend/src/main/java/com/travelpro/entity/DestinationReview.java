@@ -0,0 +1,79 @@
+package com.travelpro.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A user's review of a destination; one per user and destination. Writing a review does not touch the
+ * destination row: rating aggregates are applied later by {@code ReviewAggregateBuffer}.
+ */
+@Entity
+@Table(name = "destination_reviews", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"user_id", "destination_id"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class DestinationReview {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "destination_id")
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Destination destination;
+
+    @Column(nullable = false)
+    private Integer rating;
+
+    @Column(length = 200)
+    private String title;
+
+    @Column(name = "review_text", columnDefinition = "TEXT")
+    private String reviewText;
+
+    @Column(name = "visit_date")
+    private LocalDate visitDate;
+
+    @Column(name = "travel_type", length = 50)
+    private String travelType;
+
+    @Column(name = "helpful_count")
+    @Builder.Default
+    private Integer helpfulCount = 0;
+
+    @Column(name = "is_verified")
+    @Builder.Default
+    private Boolean isVerified = false;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
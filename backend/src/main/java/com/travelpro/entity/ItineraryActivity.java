@@ -0,0 +1,77 @@
+package com.travelpro.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "itinerary_activities")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@DynamicUpdate
+@EntityListeners(AuditingEntityListener.class)
+public class ItineraryActivity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "itinerary_id")
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private TripItinerary itinerary;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "attraction_id")
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Attraction attraction;
+
+    @Column(name = "activity_type", nullable = false, length = 50)
+    private String activityType;
+
+    @Column(nullable = false, length = 200)
+    private String name;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "start_time")
+    private LocalTime startTime;
+
+    @Column(length = 50)
+    private String duration;
+
+    @Column(precision = 10, scale = 2)
+    @Builder.Default
+    private BigDecimal cost = BigDecimal.ZERO;
+
+    @Column(length = 200)
+    private String location;
+
+    @Column(columnDefinition = "TEXT")
+    private String notes;
+
+    @Column(name = "sort_order")
+    @Builder.Default
+    private Integer sortOrder = 0;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,75 @@
+package com.travelpro.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One day of a {@link TripPlan}, unique per plan by {@code dayNumber}.
+ */
+@Entity
+@Table(name = "trip_itineraries", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"trip_plan_id", "day_number"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@DynamicUpdate
+@EntityListeners(AuditingEntityListener.class)
+public class TripItinerary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "trip_plan_id")
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private TripPlan tripPlan;
+
+    @Column(name = "day_number", nullable = false)
+    private Integer dayNumber;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(length = 200)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "total_cost", precision = 10, scale = 2)
+    @Builder.Default
+    private BigDecimal totalCost = BigDecimal.ZERO;
+
+    @Column(name = "travel_time", length = 50)
+    private String travelTime;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @OneToMany(mappedBy = "itinerary", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("sortOrder")
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private List<ItineraryActivity> activities = new ArrayList<>();
+}
@@ -0,0 +1,106 @@
+package com.travelpro.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A user's trip: one {@link TripItinerary} per day, each with its ordered {@link ItineraryActivity activities}.
+ * Days and activities are saved through the plan and updated in place, so an edit only writes the rows and
+ * columns that changed.
+ */
+@Entity
+@Table(name = "trip_plans")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@DynamicUpdate
+@EntityListeners(AuditingEntityListener.class)
+public class TripPlan {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private User user;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "destination_id")
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Destination destination;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "travelers_count", nullable = false)
+    @Builder.Default
+    private Integer travelersCount = 1;
+
+    @Column(name = "budget_range", length = 20)
+    private String budgetRange;
+
+    @Column(name = "accommodation_type", length = 50)
+    private String accommodationType;
+
+    @Column(name = "transport_mode", length = 50)
+    private String transportMode;
+
+    @Column(columnDefinition = "TEXT[]")
+    private String[] interests;
+
+    @Column(name = "total_budget", precision = 12, scale = 2)
+    private BigDecimal totalBudget;
+
+    @Column(length = 20)
+    @Builder.Default
+    private String status = "draft";
+
+    @Column(columnDefinition = "TEXT")
+    private String notes;
+
+    @Column(name = "is_public")
+    @Builder.Default
+    private Boolean isPublic = false;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @OneToMany(mappedBy = "tripPlan", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("dayNumber")
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private List<TripItinerary> days = new ArrayList<>();
+}
@@ -1,10 +1,13 @@
 package com.travelpro.entity;
 
+import com.travelpro.cache.CacheInvalidationEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -19,7 +22,7 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, CacheInvalidationEntityListener.class})
 public class User {
 
     @Id
@@ -29,6 +32,12 @@ public class User {
     @Column(unique = true, nullable = false)
     private String email;
 
+    // Email as last read from the database, so a change also evicts the identity cached under the old one
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String loadedEmail;
+
     @Column(name = "password_hash", nullable = false)
     private String passwordHash;
 
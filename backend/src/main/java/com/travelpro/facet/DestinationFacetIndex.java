@@ -0,0 +1,102 @@
+package com.travelpro.facet;
+
+import com.travelpro.cache.CacheChange;
+import com.travelpro.cache.EntityChangedEvent;
+import com.travelpro.index.IndexHolder;
+import com.travelpro.repository.DestinationCardRepository;
+import com.travelpro.repository.DestinationRepository;
+import com.travelpro.repository.projection.DestinationDailyCost;
+import com.travelpro.repository.projection.DestinationMonth;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Holds the facets of all active destinations in a {@link FacetIndex}: attributes from the
+ * {@code destination_cards} read model, the cheapest daily budget tier and the months with pleasant weather.
+ * Built on first use, rebuilt shortly after destination writes and periodically, which also picks up the
+ * rating changes applied by the review aggregate flush. See {@link IndexHolder}.
+ */
+@Slf4j
+@Component
+public class DestinationFacetIndex {
+
+    private final DestinationCardRepository destinationCardRepository;
+    private final DestinationRepository destinationRepository;
+    private final double[] priceBounds;
+    private final int maxRainfall;
+    private final int minTemperature;
+    private final int maxTemperature;
+
+    private final IndexHolder<FacetIndex> index;
+
+    public DestinationFacetIndex(DestinationCardRepository destinationCardRepository,
+                                 DestinationRepository destinationRepository,
+                                 @Value("${app.facets.price-buckets:2000,5000,10000}") double[] priceBounds,
+                                 @Value("${app.facets.pleasant-weather.max-rainfall-mm:100}") int maxRainfall,
+                                 @Value("${app.facets.pleasant-weather.min-temperature:5}") int minTemperature,
+                                 @Value("${app.facets.pleasant-weather.max-temperature:35}") int maxTemperature,
+                                 @Value("${app.facets.rebuild-delay:2s}") Duration rebuildDelay,
+                                 TaskScheduler taskScheduler) {
+        this.destinationCardRepository = destinationCardRepository;
+        this.destinationRepository = destinationRepository;
+        this.priceBounds = priceBounds;
+        this.maxRainfall = maxRainfall;
+        this.minTemperature = minTemperature;
+        this.maxTemperature = maxTemperature;
+        this.index = new IndexHolder<>("facet", this::build, taskScheduler, rebuildDelay);
+    }
+
+    public FacetResult search(FacetQuery query, int offset, int limit) {
+        return index.get().search(query, offset, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.change() == CacheChange.DESTINATION) {
+            index.rebuildLater();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.facets.refresh-interval:PT5M}",
+               initialDelayString = "${app.facets.refresh-interval:PT5M}")
+    public void rebuild() {
+        index.rebuild();
+    }
+
+    private FacetIndex build() {
+        long start = System.nanoTime();
+
+        // Daily cost of a tier is the sum over its categories; a destination is as cheap as its cheapest tier
+        Map<UUID, Double> dailyCosts = new HashMap<>();
+        for (DestinationDailyCost cost : destinationRepository.findDailyCostsByBudgetType()) {
+            dailyCosts.merge(cost.getDestinationId(), cost.getTotal().doubleValue(), Math::min);
+        }
+        Map<UUID, Set<Integer>> months = new HashMap<>();
+        for (DestinationMonth month : destinationRepository.findPleasantMonths(maxRainfall, minTemperature, maxTemperature)) {
+            months.computeIfAbsent(month.getDestinationId(), id -> new HashSet<>()).add(month.getMonth());
+        }
+
+        List<FacetDocument> documents = destinationCardRepository.findFacetAttributes().stream()
+                .map(card -> new FacetDocument(card.getId(), card.getCategory(), card.getCountryName(),
+                        card.getDifficultyLevel(),
+                        card.getRating() != null ? card.getRating().doubleValue() : null,
+                        dailyCosts.get(card.getId()),
+                        months.getOrDefault(card.getId(), Set.of())))
+                .toList();
+        FacetIndex built = FacetIndex.build(documents, priceBounds);
+        log.debug("Indexed facets of {} destinations in {} ms", built.size(), (System.nanoTime() - start) / 1_000_000);
+        return built;
+    }
+}
@@ -0,0 +1,4 @@
+package com.travelpro.facet;
+
+public record FacetCount(String value, int count) {
+}
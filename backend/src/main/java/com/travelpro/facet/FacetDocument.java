@@ -0,0 +1,14 @@
+package com.travelpro.facet;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Facet attributes of one destination. Missing numeric values are {@code null} and never match a range filter.
+ *
+ * @param dailyCost cheapest total daily cost over the destination's budget tiers
+ * @param months    months with pleasant weather, 1-12
+ */
+public record FacetDocument(UUID id, String category, String country, String difficulty,
+                            Double rating, Double dailyCost, Set<Integer> months) {
+}
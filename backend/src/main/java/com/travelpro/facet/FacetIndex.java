@@ -0,0 +1,200 @@
+package com.travelpro.facet;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Immutable bitset index over destination facets. Each facet value maps to the set of documents having it,
+ * so filtering is a handful of bitwise ANDs and ORs and every facet count is one AND plus a popcount.
+ * Documents keep the order they were given in, which is the order results are returned in.
+ *
+ * <p>Counts are disjunctive: a facet's counts ignore its own filter, so selecting one category still
+ * shows how many results every other category would give.
+ */
+public final class FacetIndex {
+
+    public static final String CATEGORY = "category";
+    public static final String COUNTRY = "country";
+    public static final String DIFFICULTY = "difficulty";
+    public static final String MONTH = "month";
+    public static final String RATING = "rating";
+    public static final String PRICE = "price";
+
+    private static final double[] RATING_BOUNDS = {3.0, 3.5, 4.0, 4.5};
+
+    private final UUID[] ids;
+    private final Double[] ratings;
+    private final Double[] dailyCosts;
+    private final Map<String, Map<String, BitSet>> postings;
+
+    private FacetIndex(UUID[] ids, Double[] ratings, Double[] dailyCosts, Map<String, Map<String, BitSet>> postings) {
+        this.ids = ids;
+        this.ratings = ratings;
+        this.dailyCosts = dailyCosts;
+        this.postings = postings;
+    }
+
+    /**
+     * @param priceBounds ascending upper bounds of the price buckets; the last bucket is open-ended
+     */
+    public static FacetIndex build(List<FacetDocument> documents, double[] priceBounds) {
+        int size = documents.size();
+        UUID[] ids = new UUID[size];
+        Double[] ratings = new Double[size];
+        Double[] dailyCosts = new Double[size];
+
+        Map<String, BitSet> categories = new TreeMap<>();
+        Map<String, BitSet> countries = new TreeMap<>();
+        Map<String, BitSet> difficulties = new TreeMap<>();
+        Map<String, BitSet> months = new LinkedHashMap<>();
+        for (int month = 1; month <= 12; month++) {
+            months.put(String.valueOf(month), new BitSet(size));
+        }
+        List<String> ratingLabels = bucketLabels(RATING_BOUNDS);
+        List<String> priceLabels = bucketLabels(priceBounds);
+        Map<String, BitSet> ratingBuckets = emptyPostings(ratingLabels, size);
+        Map<String, BitSet> priceBuckets = emptyPostings(priceLabels, size);
+
+        for (int doc = 0; doc < size; doc++) {
+            FacetDocument document = documents.get(doc);
+            ids[doc] = document.id();
+            ratings[doc] = document.rating();
+            dailyCosts[doc] = document.dailyCost();
+            add(categories, document.category(), doc, size);
+            add(countries, document.country(), doc, size);
+            add(difficulties, document.difficulty(), doc, size);
+            for (Integer month : document.months()) {
+                BitSet postingsForMonth = months.get(String.valueOf(month));
+                if (postingsForMonth != null) {
+                    postingsForMonth.set(doc);
+                }
+            }
+            if (document.rating() != null) {
+                ratingBuckets.get(ratingLabels.get(bucketOf(document.rating(), RATING_BOUNDS))).set(doc);
+            }
+            if (document.dailyCost() != null) {
+                priceBuckets.get(priceLabels.get(bucketOf(document.dailyCost(), priceBounds))).set(doc);
+            }
+        }
+
+        Map<String, Map<String, BitSet>> postings = new LinkedHashMap<>();
+        postings.put(CATEGORY, categories);
+        postings.put(COUNTRY, countries);
+        postings.put(DIFFICULTY, difficulties);
+        postings.put(MONTH, months);
+        postings.put(RATING, ratingBuckets);
+        postings.put(PRICE, priceBuckets);
+        return new FacetIndex(ids, ratings, dailyCosts, postings);
+    }
+
+    public FacetResult search(FacetQuery query, int offset, int limit) {
+        Map<String, BitSet> filters = new LinkedHashMap<>();
+        query.selections().forEach((facet, values) -> {
+            Map<String, BitSet> facetPostings = postings.get(facet);
+            if (facetPostings != null && values != null && !values.isEmpty()) {
+                BitSet union = new BitSet(ids.length);
+                values.stream().map(facetPostings::get).filter(Objects::nonNull).forEach(union::or);
+                filters.put(facet, union);
+            }
+        });
+        if (query.minRating() != null || query.maxRating() != null) {
+            filters.put(RATING, range(ratings, query.minRating(), query.maxRating()));
+        }
+        if (query.minPrice() != null || query.maxPrice() != null) {
+            filters.put(PRICE, range(dailyCosts, query.minPrice(), query.maxPrice()));
+        }
+
+        BitSet matches = allExcept(filters, null);
+        Map<String, List<FacetCount>> facets = new LinkedHashMap<>();
+        BitSet scratch = new BitSet(ids.length);
+        postings.forEach((facet, values) -> {
+            BitSet base = filters.containsKey(facet) ? allExcept(filters, facet) : matches;
+            List<FacetCount> counts = new ArrayList<>(values.size());
+            values.forEach((value, docs) -> {
+                scratch.clear();
+                scratch.or(docs);
+                scratch.and(base);
+                counts.add(new FacetCount(value, scratch.cardinality()));
+            });
+            facets.put(facet, counts);
+        });
+
+        List<UUID> page = new ArrayList<>(Math.min(limit, ids.length));
+        int skipped = 0;
+        for (int doc = matches.nextSetBit(0); doc >= 0 && page.size() < limit; doc = matches.nextSetBit(doc + 1)) {
+            if (skipped++ >= offset) {
+                page.add(ids[doc]);
+            }
+        }
+        return new FacetResult(page, matches.cardinality(), facets);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    private BitSet allExcept(Map<String, BitSet> filters, String excludedFacet) {
+        BitSet result = new BitSet(ids.length);
+        result.set(0, ids.length);
+        filters.forEach((facet, bits) -> {
+            if (!facet.equals(excludedFacet)) {
+                result.and(bits);
+            }
+        });
+        return result;
+    }
+
+    private static BitSet range(Double[] values, Double min, Double max) {
+        BitSet result = new BitSet(values.length);
+        for (int doc = 0; doc < values.length; doc++) {
+            Double value = values[doc];
+            if (value != null && (min == null || value >= min) && (max == null || value <= max)) {
+                result.set(doc);
+            }
+        }
+        return result;
+    }
+
+    private static void add(Map<String, BitSet> facetPostings, String value, int doc, int size) {
+        if (value != null) {
+            facetPostings.computeIfAbsent(value, key -> new BitSet(size)).set(doc);
+        }
+    }
+
+    private static Map<String, BitSet> emptyPostings(List<String> labels, int size) {
+        Map<String, BitSet> result = new LinkedHashMap<>();
+        labels.forEach(label -> result.put(label, new BitSet(size)));
+        return result;
+    }
+
+    private static int bucketOf(double value, double[] bounds) {
+        int bucket = 0;
+        while (bucket < bounds.length && value >= bounds[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    /**
+     * Labels like {@code 0-2000}, {@code 2000-5000} and {@code 5000+} for ascending bounds.
+     */
+    static List<String> bucketLabels(double[] bounds) {
+        Function<Double, String> format = bound -> BigDecimal.valueOf(bound).stripTrailingZeros().toPlainString();
+        List<String> labels = new ArrayList<>(bounds.length + 1);
+        double lower = 0;
+        for (double bound : bounds) {
+            labels.add(format.apply(lower) + "-" + format.apply(bound));
+            lower = bound;
+        }
+        labels.add(format.apply(lower) + "+");
+        return labels;
+    }
+}
@@ -0,0 +1,19 @@
+package com.travelpro.facet;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Facet filters. Values selected within one facet are OR-ed, facets are AND-ed.
+ *
+ * @param selections selected values per categorical facet ({@code category}, {@code country},
+ *                   {@code difficulty}, {@code month})
+ */
+public record FacetQuery(Map<String, Set<String>> selections,
+                         Double minRating, Double maxRating,
+                         Double minPrice, Double maxPrice) {
+
+    public static FacetQuery all() {
+        return new FacetQuery(Map.of(), null, null, null, null);
+    }
+}
@@ -0,0 +1,13 @@
+package com.travelpro.facet;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * @param ids    requested page of matching destinations, in name order
+ * @param total  number of matching destinations
+ * @param facets counts per facet value, each computed with every filter except the facet's own
+ */
+public record FacetResult(List<UUID> ids, int total, Map<String, List<FacetCount>> facets) {
+}
@@ -0,0 +1,63 @@
+package com.travelpro.geo;
+
+import com.travelpro.cache.CacheChange;
+import com.travelpro.cache.EntityChangedEvent;
+import com.travelpro.index.IndexHolder;
+import com.travelpro.repository.DestinationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Holds the coordinates of all active destinations in a {@link GeoGridIndex}. The index is built on
+ * first use, rebuilt shortly after destination writes and periodically to pick up changes made outside
+ * the app. See {@link IndexHolder}.
+ */
+@Slf4j
+@Component
+public class DestinationGeoIndex {
+
+    private final DestinationRepository destinationRepository;
+    private final double cellDegrees;
+
+    private final IndexHolder<GeoGridIndex> index;
+
+    public DestinationGeoIndex(DestinationRepository destinationRepository,
+                               @Value("${app.geo.cell-degrees:0.25}") double cellDegrees,
+                               @Value("${app.geo.rebuild-delay:2s}") Duration rebuildDelay,
+                               TaskScheduler taskScheduler) {
+        this.destinationRepository = destinationRepository;
+        this.cellDegrees = cellDegrees;
+        this.index = new IndexHolder<>("geo", this::build, taskScheduler, rebuildDelay);
+    }
+
+    public List<GeoNeighbour> nearest(double latitude, double longitude, double radiusKm, int limit) {
+        return index.get().nearest(latitude, longitude, radiusKm, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.change() == CacheChange.DESTINATION) {
+            index.rebuildLater();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.geo.refresh-interval:PT15M}",
+               initialDelayString = "${app.geo.refresh-interval:PT15M}")
+    public void rebuild() {
+        index.rebuild();
+    }
+
+    private GeoGridIndex build() {
+        long start = System.nanoTime();
+        GeoGridIndex built = GeoGridIndex.build(destinationRepository.findGeoPoints(), cellDegrees);
+        log.debug("Indexed {} destination coordinates in {} ms", built.size(), (System.nanoTime() - start) / 1_000_000);
+        return built;
+    }
+}
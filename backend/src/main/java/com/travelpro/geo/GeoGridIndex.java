@@ -0,0 +1,178 @@
+package com.travelpro.geo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Immutable equirectangular grid over latitude/longitude for radius and k-nearest queries.
+ *
+ * <p>Coordinates are stored as radians in primitive arrays and compared by the haversine term
+ * {@code a}, which is monotonic in distance, so the hot path does no {@code BigDecimal} or
+ * {@code asin} work. A query visits rings of cells around the query cell and stops once no
+ * unvisited cell can hold a point closer than the current k-th neighbour or the radius.
+ */
+public final class GeoGridIndex {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private final double cellDegrees;
+    private final int rows;
+    private final int columns;
+    private final Map<Long, int[]> cells;
+    private final UUID[] ids;
+    private final double[] latRad;
+    private final double[] lngRad;
+    private final double[] cosLat;
+
+    private GeoGridIndex(double cellDegrees, List<GeoPoint> points) {
+        this.cellDegrees = cellDegrees;
+        this.rows = (int) Math.ceil(180 / cellDegrees);
+        this.columns = (int) Math.ceil(360 / cellDegrees);
+        int size = points.size();
+        this.ids = new UUID[size];
+        this.latRad = new double[size];
+        this.lngRad = new double[size];
+        this.cosLat = new double[size];
+
+        Map<Long, List<Integer>> buckets = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            GeoPoint point = points.get(i);
+            ids[i] = point.id();
+            latRad[i] = Math.toRadians(point.latitude());
+            lngRad[i] = Math.toRadians(point.longitude());
+            cosLat[i] = Math.cos(latRad[i]);
+            buckets.computeIfAbsent(cellKey(row(point.latitude()), column(point.longitude())),
+                    key -> new ArrayList<>()).add(i);
+        }
+        this.cells = new HashMap<>(buckets.size() * 2);
+        buckets.forEach((key, members) -> cells.put(key, members.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    public static GeoGridIndex build(List<GeoPoint> points, double cellDegrees) {
+        if (cellDegrees <= 0 || cellDegrees > 90) {
+            throw new IllegalArgumentException("Cell size must be in (0, 90] degrees: " + cellDegrees);
+        }
+        return new GeoGridIndex(cellDegrees, points);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Returns up to {@code limit} points within {@code radiusKm} of the given coordinates, nearest first.
+     */
+    public List<GeoNeighbour> nearest(double latitude, double longitude, double radiusKm, int limit) {
+        if (limit <= 0 || ids.length == 0) {
+            return List.of();
+        }
+        double queryLat = Math.toRadians(latitude);
+        double queryLng = Math.toRadians(longitude);
+        double queryCos = Math.cos(queryLat);
+        double maxA = haversineA(radiusKm);
+
+        // Max-heap on the haversine term: the root is the current k-th nearest candidate
+        PriorityQueue<double[]> heap = new PriorityQueue<>(limit + 1, (a, b) -> Double.compare(b[0], a[0]));
+
+        int centerRow = row(latitude);
+        int centerColumn = column(longitude);
+        double edgeLatDegrees = Math.min(latitude + 90 - centerRow * cellDegrees,
+                (centerRow + 1) * cellDegrees - (latitude + 90));
+        double edgeLngDegrees = Math.min(longitude + 180 - centerColumn * cellDegrees,
+                (centerColumn + 1) * cellDegrees - (longitude + 180));
+        int maxRing = Math.max(rows, columns / 2 - 1);
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            if (ring > 0) {
+                double boundKm = unvisitedLowerBoundKm(latitude, ring, edgeLatDegrees, edgeLngDegrees);
+                if (boundKm > radiusKm) {
+                    break;
+                }
+                if (heap.size() == limit && haversineA(boundKm) > heap.peek()[0]) {
+                    break;
+                }
+                if (ring >= columns / 2) {
+                    break;
+                }
+            }
+            for (int dy = -ring; dy <= ring; dy++) {
+                int row = centerRow + dy;
+                if (row < 0 || row >= rows) {
+                    continue;
+                }
+                boolean edgeRow = Math.abs(dy) == ring;
+                int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+                for (int dx = -ring; dx <= ring; dx += step) {
+                    int[] members = cells.get(cellKey(row, Math.floorMod(centerColumn + dx, columns)));
+                    if (members == null) {
+                        continue;
+                    }
+                    for (int i : members) {
+                        double a = haversineA(queryLat, queryLng, queryCos, i);
+                        if (a > maxA) {
+                            continue;
+                        }
+                        if (heap.size() < limit) {
+                            heap.add(new double[] {a, i});
+                        } else if (a < heap.peek()[0]) {
+                            heap.poll();
+                            heap.add(new double[] {a, i});
+                        }
+                    }
+                }
+            }
+        }
+
+        List<GeoNeighbour> result = new ArrayList<>(heap.size());
+        for (double[] candidate : heap) {
+            result.add(new GeoNeighbour(ids[(int) candidate[1]], distanceKm(candidate[0])));
+        }
+        result.sort((a, b) -> Double.compare(a.distanceKm(), b.distanceKm()));
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Smallest possible distance to a point in a cell outside the first {@code ring} rings.
+     * Longitude spacing shrinks towards the poles, so it uses the widest latitude the ring can reach.
+     */
+    private double unvisitedLowerBoundKm(double latitude, int ring, double edgeLatDegrees, double edgeLngDegrees) {
+        double latDegrees = edgeLatDegrees + (ring - 1) * cellDegrees;
+        double lngDegrees = edgeLngDegrees + (ring - 1) * cellDegrees;
+        double widestLatitude = Math.min(90, Math.abs(latitude) + ring * cellDegrees);
+        return Math.min(latDegrees * KM_PER_DEGREE,
+                lngDegrees * KM_PER_DEGREE * Math.cos(Math.toRadians(widestLatitude)));
+    }
+
+    private double haversineA(double queryLat, double queryLng, double queryCos, int i) {
+        double sinLat = Math.sin((latRad[i] - queryLat) / 2);
+        double sinLng = Math.sin((lngRad[i] - queryLng) / 2);
+        return sinLat * sinLat + queryCos * cosLat[i] * sinLng * sinLng;
+    }
+
+    private static double haversineA(double distanceKm) {
+        double sin = Math.sin(Math.min(Math.PI / 2, distanceKm / (2 * EARTH_RADIUS_KM)));
+        return sin * sin;
+    }
+
+    private static double distanceKm(double a) {
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private int row(double latitude) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor((latitude + 90) / cellDegrees)));
+    }
+
+    private int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellDegrees), columns);
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) | column;
+    }
+}
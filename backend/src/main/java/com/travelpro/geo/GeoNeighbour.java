@@ -0,0 +1,6 @@
+package com.travelpro.geo;
+
+import java.util.UUID;
+
+public record GeoNeighbour(UUID id, double distanceKm) {
+}
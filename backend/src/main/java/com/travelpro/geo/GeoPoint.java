@@ -0,0 +1,14 @@
+package com.travelpro.geo;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record GeoPoint(UUID id, double latitude, double longitude) {
+
+    /**
+     * Used by the JPQL constructor projection; coordinates are converted once at load time.
+     */
+    public GeoPoint(UUID id, BigDecimal latitude, BigDecimal longitude) {
+        this(id, latitude.doubleValue(), longitude.doubleValue());
+    }
+}
@@ -0,0 +1,84 @@
+package com.travelpro.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Current version of an in-memory index built from the database. Built on first use; a rebuild swaps the
+ * reference, so readers always see a complete index. Builds are serialized, so an older snapshot never
+ * replaces a newer one.
+ *
+ * <p>{@link #rebuildLater()} coalesces change notifications: the first one schedules a single rebuild after
+ * {@code delay} on the task scheduler, and later ones until it starts are absorbed by it. Committing
+ * threads therefore never pay for the rebuild.
+ *
+ * @param <T> the index type
+ */
+@Slf4j
+public final class IndexHolder<T> {
+
+    private final String name;
+    private final Supplier<T> builder;
+    private final TaskScheduler taskScheduler;
+    private final Duration delay;
+
+    // A lock rather than synchronized: builds do I/O, which would pin a virtual thread's carrier
+    private final ReentrantLock buildLock = new ReentrantLock();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    private volatile T current;
+
+    public IndexHolder(String name, Supplier<T> builder, TaskScheduler taskScheduler, Duration delay) {
+        this.name = name;
+        this.builder = builder;
+        this.taskScheduler = taskScheduler;
+        this.delay = delay;
+    }
+
+    public T get() {
+        T index = current;
+        if (index != null) {
+            return index;
+        }
+        buildLock.lock();
+        try {
+            if (current == null) {
+                current = builder.get();
+            }
+            return current;
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    public void rebuild() {
+        buildLock.lock();
+        try {
+            current = builder.get();
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    public void rebuildLater() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::runScheduledRebuild, Instant.now().plus(delay));
+        }
+    }
+
+    private void runScheduledRebuild() {
+        // Cleared before building, so a change committed during the build schedules another one
+        rebuildScheduled.set(false);
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            log.warn("Could not rebuild the {} index, keeping the current one", name, ex);
+        }
+    }
+}
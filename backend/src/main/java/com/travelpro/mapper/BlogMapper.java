@@ -2,8 +2,10 @@ package com.travelpro.mapper;
 
 import com.travelpro.dto.BlogCategoryDto;
 import com.travelpro.dto.BlogPostDto;
+import com.travelpro.dto.BlogSearchResultDto;
 import com.travelpro.entity.BlogCategory;
 import com.travelpro.entity.BlogPost;
+import com.travelpro.repository.projection.BlogPostSearchHit;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
 
@@ -16,6 +18,8 @@ public interface BlogMapper {
     
     List<BlogPostDto> toPostDtoList(List<BlogPost> blogPosts);
 
+    BlogSearchResultDto toDto(BlogPostSearchHit searchHit);
+
     BlogCategoryDto toDto(BlogCategory blogCategory);
     
     List<BlogCategoryDto> toCategoryDtoList(List<BlogCategory> blogCategories);
@@ -0,0 +1,15 @@
+package com.travelpro.mapper;
+
+import com.travelpro.dto.DestinationReviewDto;
+import com.travelpro.entity.DestinationReview;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ReviewMapper {
+
+    @Mapping(target = "destinationId", source = "destination.id")
+    @Mapping(target = "reviewerName", source = "user.firstName")
+    DestinationReviewDto toDto(DestinationReview review);
+}
@@ -0,0 +1,30 @@
+package com.travelpro.mapper;
+
+import com.travelpro.dto.ItineraryActivityDto;
+import com.travelpro.dto.TripItineraryDto;
+import com.travelpro.dto.TripPlanDto;
+import com.travelpro.entity.ItineraryActivity;
+import com.travelpro.entity.TripItinerary;
+import com.travelpro.entity.TripPlan;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE, uses = DestinationMapper.class)
+public interface TripMapper {
+
+    @Mapping(target = "destinationId", source = "destination.id")
+    TripPlanDto toDto(TripPlan plan);
+
+    /**
+     * Plan without its days, for listings; does not touch the days collection.
+     */
+    @Mapping(target = "destinationId", source = "destination.id")
+    @Mapping(target = "days", ignore = true)
+    TripPlanDto toSummaryDto(TripPlan plan);
+
+    TripItineraryDto toDto(TripItinerary day);
+
+    @Mapping(target = "attractionId", source = "attraction.id")
+    ItineraryActivityDto toDto(ItineraryActivity activity);
+}
@@ -0,0 +1,56 @@
+package com.travelpro.metrics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records lazy initializations into the open {@link StatementCounter} count: collections by role
+ * ({@code Destination.attractions}) and to-one proxies by entity name ({@code City}). Loads fetched
+ * eagerly by a query or entity graph do not pass through these events.
+ */
+@Component
+@RequiredArgsConstructor
+public class LazyLoadTracker implements InitializeCollectionEventListener, LoadEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.INIT_COLLECTION, this);
+        registry.appendListeners(EventType.LOAD, this);
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) throws HibernateException {
+        StatementCounter.recordLazyLoad(shortRole(event.getCollection().getRole()));
+    }
+
+    @Override
+    public void onLoad(LoadEvent event, LoadType loadType) throws HibernateException {
+        // Proxies initialize themselves through IMMEDIATE_LOAD
+        if (loadType == IMMEDIATE_LOAD) {
+            String entityName = event.getEntityClassName();
+            StatementCounter.recordLazyLoad(entityName.substring(entityName.lastIndexOf('.') + 1));
+        }
+    }
+
+    /**
+     * {@code com.travelpro.entity.Destination.attractions} becomes {@code Destination.attractions}.
+     */
+    static String shortRole(String role) {
+        int property = role.lastIndexOf('.');
+        return property > 0 ? role.substring(role.lastIndexOf('.', property - 1) + 1) : role;
+    }
+}
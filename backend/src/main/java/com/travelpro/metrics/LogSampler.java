@@ -0,0 +1,31 @@
+package com.travelpro.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lets through at most one event per key and interval, so a hot path cannot flood the log.
+ */
+public class LogSampler {
+
+    private final long intervalNanos;
+    private final Map<String, Long> lastSampled = new ConcurrentHashMap<>();
+
+    public LogSampler(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+    }
+
+    public boolean sample(String key) {
+        long now = System.nanoTime();
+        boolean[] sampled = new boolean[1];
+        lastSampled.compute(key, (k, last) -> {
+            if (last == null || now - last >= intervalNanos) {
+                sampled[0] = true;
+                return now;
+            }
+            return last;
+        });
+        return sampled[0];
+    }
+}
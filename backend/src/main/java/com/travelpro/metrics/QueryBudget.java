@@ -0,0 +1,22 @@
+package com.travelpro.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides {@code app.query-guard.service-budget} for a service method whose statement count legitimately
+ * grows with its input, e.g. batch lookups that fetch collections in {@code @BatchSize} chunks.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    /**
+     * Maximum SQL statements one call may issue.
+     */
+    int value();
+}
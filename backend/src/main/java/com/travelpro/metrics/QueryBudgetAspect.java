@@ -0,0 +1,50 @@
+package com.travelpro.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks every {@code @Transactional} service call against its statement budget. Runs outside the
+ * transaction interceptor, so statements flushed on commit are counted too. Calls made outside a request,
+ * e.g. by the cache warmer, open their own count.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class QueryBudgetAspect {
+
+    private final QueryBudgetGuard guard;
+
+    @Around("execution(* com.travelpro.service..*.*(..)) && "
+            + "(@within(org.springframework.transaction.annotation.Transactional) || "
+            + "@annotation(org.springframework.transaction.annotation.Transactional))")
+    public Object check(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!guard.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        QueryStats before = StatementCounter.snapshot();
+        if (before == null) {
+            StatementCounter.start();
+        }
+        Object result;
+        QueryStats stats;
+        try {
+            result = joinPoint.proceed();
+        } finally {
+            stats = before == null ? StatementCounter.stop() : StatementCounter.snapshot().minus(before);
+        }
+
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        QueryBudget budget = signature.getMethod().getAnnotation(QueryBudget.class);
+        guard.checkService(signature.getDeclaringType().getSimpleName() + "." + signature.getName(),
+                stats, budget != null ? budget.value() : -1);
+        return result;
+    }
+}
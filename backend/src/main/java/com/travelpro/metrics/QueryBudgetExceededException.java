@@ -0,0 +1,12 @@
+package com.travelpro.metrics;
+
+/**
+ * Thrown when {@code app.query-guard.mode} is {@code fail} and a request or service call issued more SQL
+ * statements than its budget, so integration tests catch N+1 regressions.
+ */
+public class QueryBudgetExceededException extends IllegalStateException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
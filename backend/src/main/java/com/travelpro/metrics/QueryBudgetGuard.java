@@ -0,0 +1,83 @@
+package com.travelpro.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Compares the statements issued by a request or a service call with its budget. An overrun is counted as
+ * {@code query.budget.exceeded}, tagged with the lazy association initialized most often, and logged at most
+ * once per scope name and {@code sample-interval}. In {@code fail} mode it also throws, which is what the
+ * test profile uses.
+ */
+@Component
+@Slf4j
+public class QueryBudgetGuard {
+
+    public enum Mode { OFF, LOG, FAIL }
+
+    static final String REQUEST = "request";
+    static final String SERVICE = "service";
+
+    private final MeterRegistry meterRegistry;
+    private final int requestBudget;
+    private final int serviceBudget;
+    private final Mode mode;
+    private final LogSampler logSampler;
+
+    public QueryBudgetGuard(MeterRegistry meterRegistry,
+                            @Value("${app.query-guard.request-budget:25}") int requestBudget,
+                            @Value("${app.query-guard.service-budget:10}") int serviceBudget,
+                            @Value("${app.query-guard.mode:log}") Mode mode,
+                            @Value("${app.query-guard.sample-interval:10s}") Duration sampleInterval) {
+        this.meterRegistry = meterRegistry;
+        this.requestBudget = requestBudget;
+        this.serviceBudget = serviceBudget;
+        this.mode = mode;
+        this.logSampler = new LogSampler(sampleInterval);
+    }
+
+    public boolean isEnabled() {
+        return mode != Mode.OFF;
+    }
+
+    /**
+     * @param name the route pattern, e.g. {@code GET /destinations/{id}}
+     */
+    public void checkRequest(String name, QueryStats stats) {
+        check(REQUEST, name, stats, requestBudget);
+    }
+
+    /**
+     * @param name e.g. {@code DestinationService.getDestinationById}
+     * @param budget the method's {@link QueryBudget}, or a negative value for the default
+     */
+    public void checkService(String name, QueryStats stats, int budget) {
+        check(SERVICE, name, stats, budget >= 0 ? budget : serviceBudget);
+    }
+
+    private void check(String scope, String name, QueryStats stats, int budget) {
+        if (mode == Mode.OFF || stats.statements() <= budget) {
+            return;
+        }
+        String association = stats.topLazyLoad();
+        Counter.builder("query.budget.exceeded")
+                .tags("scope", scope, "name", name, "association", association)
+                .description("Requests and service calls that issued more SQL statements than their budget")
+                .register(meterRegistry)
+                .increment();
+
+        String message = String.format("%s %s issued %d SQL statements (budget %d), most frequent lazy load: %s %s",
+                scope, name, stats.statements(), budget, association, stats.lazyLoads());
+        if (mode == Mode.FAIL) {
+            throw new QueryBudgetExceededException(message);
+        }
+        if (logSampler.sample(scope + ":" + name)) {
+            log.warn("Possible N+1: {}", message);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.travelpro.metrics;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Statements issued within a scope and how often each lazy association was initialized in it,
+ * keyed like {@code Destination.attractions}.
+ */
+public record QueryStats(long statements, Map<String, Integer> lazyLoads) {
+
+    public QueryStats minus(QueryStats earlier) {
+        Map<String, Integer> delta = new HashMap<>(lazyLoads);
+        earlier.lazyLoads().forEach((association, count) -> delta.computeIfPresent(association,
+                (key, current) -> current - count > 0 ? current - count : null));
+        return new QueryStats(statements - earlier.statements(), delta);
+    }
+
+    /**
+     * The association initialized most often, the usual culprit of an N+1, or {@code none}.
+     */
+    public String topLazyLoad() {
+        return lazyLoads.entrySet().stream()
+                .max(Map.Entry.<String, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .map(Map.Entry::getKey)
+                .orElse("none");
+    }
+}
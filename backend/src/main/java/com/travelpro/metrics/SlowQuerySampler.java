@@ -0,0 +1,107 @@
+package com.travelpro.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Array;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Logs repository calls slower than {@code app.metrics.slow-query.threshold}, at most once per method and
+ * {@code sample-interval}, with the shape of the bind parameters (types, collection sizes, paging) but never
+ * their values. Every slow call is counted as {@code repository.slow.invocations}. Latency of all calls is
+ * already recorded by Spring Boot as {@code spring.data.repository.invocations}.
+ */
+@Slf4j
+@Aspect
+@Component
+public class SlowQuerySampler {
+
+    private static final String REPOSITORY_PACKAGE = "com.travelpro.repository";
+
+    private final MeterRegistry meterRegistry;
+    private final long thresholdNanos;
+    private final LogSampler logSampler;
+
+    public SlowQuerySampler(MeterRegistry meterRegistry,
+                            @Value("${app.metrics.slow-query.threshold:200ms}") Duration threshold,
+                            @Value("${app.metrics.slow-query.sample-interval:10s}") Duration sampleInterval) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = threshold.toNanos();
+        this.logSampler = new LogSampler(sampleInterval);
+    }
+
+    @Around("execution(* com.travelpro.repository..*.*(..))")
+    public Object sample(ProceedingJoinPoint joinPoint) throws Throwable {
+        long statementsBefore = StatementCounter.current();
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            if (elapsed >= thresholdNanos) {
+                String repository = repositoryName(joinPoint);
+                String method = joinPoint.getSignature().getName();
+                Counter.builder("repository.slow.invocations")
+                        .tags("repository", repository, "method", method)
+                        .description("Repository calls slower than the slow-query threshold")
+                        .register(meterRegistry)
+                        .increment();
+                if (logSampler.sample(repository + "." + method)) {
+                    long statements = statementsBefore >= 0 ? StatementCounter.current() - statementsBefore : -1;
+                    log.warn("Slow query {}.{}{} took {} ms ({} statements)", repository, method,
+                            shape(joinPoint.getArgs()), elapsed / 1_000_000, statements >= 0 ? statements : "?");
+                }
+            }
+        }
+    }
+
+    /**
+     * Spring Data proxies implement the repository interface; inherited methods such as {@code findById}
+     * are declared on {@code CrudRepository}, so the name is taken from the proxy rather than the signature.
+     */
+    private static String repositoryName(ProceedingJoinPoint joinPoint) {
+        for (Class<?> type : joinPoint.getThis().getClass().getInterfaces()) {
+            if (type.getName().startsWith(REPOSITORY_PACKAGE)) {
+                return type.getSimpleName();
+            }
+        }
+        return joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+
+    static String shape(Object[] args) {
+        return Arrays.stream(args).map(SlowQuerySampler::shapeOf).collect(Collectors.joining(", ", "(", ")"));
+    }
+
+    private static String shapeOf(Object arg) {
+        if (arg == null) {
+            return "null";
+        }
+        if (arg instanceof Collection<?> collection) {
+            String kind = collection instanceof List ? "List" : collection instanceof Set ? "Set" : "Collection";
+            return kind + "[" + collection.size() + "]";
+        }
+        if (arg.getClass().isArray()) {
+            return arg.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(arg) + "]";
+        }
+        if (arg instanceof Pageable pageable) {
+            return pageable.isPaged()
+                    ? "Pageable[page=" + pageable.getPageNumber() + ", size=" + pageable.getPageSize()
+                            + ", sort=" + pageable.getSort() + "]"
+                    : "Pageable[unpaged]";
+        }
+        return arg.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,69 @@
+package com.travelpro.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a count is open, together with
+ * the lazy associations that were initialized (see {@link LazyLoadTracker}). Registered as the session
+ * factory's statement inspector; it never rewrites the SQL.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Counts> COUNTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Counts counts = COUNTS.get();
+        if (counts != null) {
+            counts.statements++;
+        }
+        return sql;
+    }
+
+    /**
+     * Opens a count on the current thread. Must be paired with {@link #stop()} in a finally block.
+     */
+    public static void start() {
+        COUNTS.set(new Counts());
+    }
+
+    /**
+     * Closes the current count and returns it, or {@code null} if none was open.
+     */
+    public static QueryStats stop() {
+        QueryStats stats = snapshot();
+        COUNTS.remove();
+        return stats;
+    }
+
+    /**
+     * The open count so far, or {@code null} if none is open.
+     */
+    public static QueryStats snapshot() {
+        Counts counts = COUNTS.get();
+        return counts != null ? new QueryStats(counts.statements, Map.copyOf(counts.lazyLoads)) : null;
+    }
+
+    /**
+     * Statements so far in the open count, or {@code -1} if none is open.
+     */
+    public static long current() {
+        Counts counts = COUNTS.get();
+        return counts != null ? counts.statements : -1;
+    }
+
+    static void recordLazyLoad(String association) {
+        Counts counts = COUNTS.get();
+        if (counts != null) {
+            counts.lazyLoads.merge(association, 1, Integer::sum);
+        }
+    }
+
+    private static final class Counts {
+        private long statements;
+        private final Map<String, Integer> lazyLoads = new HashMap<>();
+    }
+}
@@ -0,0 +1,56 @@
+package com.travelpro.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements each request issued as {@code hibernate.statements.per.request},
+ * tagged with the same {@code method} and {@code uri} as {@code http.server.requests}.
+ * Requests answered before reaching a handler, e.g. from the response cache, are not recorded.
+ * Successful requests are then checked against {@code app.query-guard.request-budget}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class StatementMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final QueryBudgetGuard queryBudgetGuard;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        StatementCounter.start();
+        boolean completed = false;
+        try {
+            chain.doFilter(request, response);
+            completed = true;
+        } finally {
+            QueryStats stats = StatementCounter.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                DistributionSummary.builder("hibernate.statements.per.request")
+                        .tags("method", request.getMethod(), "uri", pattern.toString())
+                        .description("SQL statements prepared while handling a request")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(stats.statements());
+                if (completed) {
+                    queryBudgetGuard.checkRequest(request.getMethod() + " " + pattern, stats);
+                }
+            }
+        }
+    }
+}
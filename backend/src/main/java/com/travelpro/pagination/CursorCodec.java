@@ -0,0 +1,44 @@
+package com.travelpro.pagination;
+
+import com.travelpro.exception.InvalidCursorException;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Encodes keyset positions as opaque, URL-safe continuation tokens.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = ":";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(KeysetCursor cursor) {
+        String raw = cursor.sort() + SEPARATOR + cursor.id() + SEPARATOR + cursor.value();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded cursor, or {@code null} for an empty token (first page)
+     * @throws InvalidCursorException if the token is malformed or was issued for a different sort
+     */
+    public static KeysetCursor decode(String token, String expectedSort) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 3);
+            if (parts.length != 3 || !parts[0].equals(expectedSort)) {
+                throw new InvalidCursorException("Cursor does not match sort '" + expectedSort + "'");
+            }
+            return new KeysetCursor(parts[0], parts[2], UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Malformed cursor", ex);
+        }
+    }
+}
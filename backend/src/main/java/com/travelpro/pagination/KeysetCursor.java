@@ -0,0 +1,9 @@
+package com.travelpro.pagination;
+
+import java.util.UUID;
+
+/**
+ * Position of the last row of a keyset page: the value of the sort column and the id tie-breaker.
+ */
+public record KeysetCursor(String sort, String value, UUID id) {
+}
@@ -0,0 +1,47 @@
+package com.travelpro.pagination;
+
+import com.travelpro.dto.CursorPage;
+import com.travelpro.exception.InvalidCursorException;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public final class KeysetPager {
+
+    public static final int MAX_SIZE = 100;
+
+    private KeysetPager() {
+    }
+
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * Builds a slice from rows fetched with a limit of {@code size + 1}; the extra row only signals
+     * that another slice exists.
+     */
+    public static <T, R> CursorPage<R> slice(List<T> rows, int size, Function<T, KeysetCursor> cursorOf,
+                                             Function<T, R> mapper, Supplier<Long> totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? CursorCodec.encode(cursorOf.apply(content.get(content.size() - 1))) : null;
+
+        return CursorPage.<R>builder()
+                .content(content.stream().map(mapper).toList())
+                .size(content.size())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalElements(totalElements != null ? totalElements.get() : null)
+                .build();
+    }
+
+    public static <T> T parseValue(KeysetCursor cursor, Function<String, T> parser) {
+        try {
+            return parser.apply(cursor.value());
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException("Malformed cursor value", ex);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.travelpro.pagination;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+/**
+ * Builds {@link Pageable}s from raw request parameters. Sort fields outside the whitelist fall back to the
+ * default, directions are parsed leniently and sizes are clamped, so every listing maps onto a small,
+ * canonical set of queries and cache keys.
+ */
+public final class PageRequests {
+
+    public static final int MAX_SIZE = 100;
+
+    private PageRequests() {
+    }
+
+    public static Pageable of(int page, int size, String sortBy, String sortDir,
+                              Set<String> allowedSorts, String defaultSort) {
+        String property = allowedSorts.contains(sortBy) ? sortBy : defaultSort;
+        Sort.Direction direction = Sort.Direction.fromOptionalString(sortDir).orElse(Sort.Direction.ASC);
+        return PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, MAX_SIZE)), Sort.by(direction, property));
+    }
+}
@@ -0,0 +1,11 @@
+package com.travelpro.repository;
+
+import com.travelpro.entity.Attraction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface AttractionRepository extends JpaRepository<Attraction, UUID> {
+}
@@ -1,6 +1,7 @@
 package com.travelpro.repository;
 
 import com.travelpro.entity.BlogPost;
+import com.travelpro.repository.projection.BlogPostSearchHit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,17 +20,48 @@ public interface BlogPostRepository extends JpaRepository<BlogPost, UUID> {
 
     Optional<BlogPost> findBySlug(String slug);
 
-    Page<BlogPost> findByIsPublishedTrueOrderByPublishedAtDesc(Pageable pageable);
+    @Query("SELECT b FROM BlogPost b LEFT JOIN FETCH b.category WHERE b.slug IN :slugs")
+    List<BlogPost> findBySlugIn(@Param("slugs") Collection<String> slugs);
 
-    Page<BlogPost> findByCategoryIdAndIsPublishedTrueOrderByPublishedAtDesc(UUID categoryId, Pageable pageable);
+    Page<BlogPost> findByIsPublishedTrue(Pageable pageable);
+
+    Page<BlogPost> findByCategoryIdAndIsPublishedTrue(UUID categoryId, Pageable pageable);
 
     List<BlogPost> findByIsFeaturedTrueAndIsPublishedTrueOrderByPublishedAtDesc();
 
-    @Query("SELECT b FROM BlogPost b WHERE b.isPublished = true AND " +
-           "(LOWER(b.title) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(b.content) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(b.excerpt) LIKE LOWER(CONCAT('%', :query, '%')))")
-    Page<BlogPost> searchBlogPosts(@Param("query") String query, Pageable pageable);
+    // The tsvector expression must match idx_blog_posts_search exactly for the planner to use the index
+    @Query(value = "SELECT b.id AS id, b.title AS title, b.slug AS slug, b.excerpt AS excerpt, " +
+                   "b.author_name AS authorName, b.featured_image_url AS featuredImageUrl, " +
+                   "b.read_time AS readTime, b.published_at AS publishedAt, " +
+                   "c.name AS categoryName, c.slug AS categorySlug, " +
+                   "ts_rank(to_tsvector('english', b.title || ' ' || b.content), q) AS rank, " +
+                   "ts_headline('english', b.content, q, " +
+                   "'MaxWords=35, MinWords=15, MaxFragments=2, StartSel=<mark>, StopSel=</mark>') AS snippet " +
+                   "FROM blog_posts b " +
+                   "LEFT JOIN blog_categories c ON c.id = b.category_id " +
+                   "CROSS JOIN to_tsquery('english', :tsQuery) q " +
+                   "WHERE b.is_published = true " +
+                   "AND to_tsvector('english', b.title || ' ' || b.content) @@ q " +
+                   "ORDER BY rank DESC, b.published_at DESC",
+           countQuery = "SELECT COUNT(*) FROM blog_posts b " +
+                        "WHERE b.is_published = true " +
+                        "AND to_tsvector('english', b.title || ' ' || b.content) @@ to_tsquery('english', :tsQuery)",
+           nativeQuery = true)
+    Page<BlogPostSearchHit> searchBlogPosts(@Param("tsQuery") String tsQuery, Pageable pageable);
+
+    // Posts published without a date scroll by their creation time; NULL would drop them from the row-value seek
+    @Query("SELECT b FROM BlogPost b LEFT JOIN FETCH b.category WHERE b.isPublished = true " +
+           "ORDER BY COALESCE(b.publishedAt, b.createdAt) DESC, b.id DESC")
+    List<BlogPost> findPublishedOrderByPublishedAt(Pageable limit);
+
+    @Query("SELECT b FROM BlogPost b LEFT JOIN FETCH b.category WHERE b.isPublished = true " +
+           "AND (COALESCE(b.publishedAt, b.createdAt), b.id) < (:publishedAt, :id) " +
+           "ORDER BY COALESCE(b.publishedAt, b.createdAt) DESC, b.id DESC")
+    List<BlogPost> findPublishedOrderByPublishedAtAfter(@Param("publishedAt") LocalDateTime publishedAt,
+                                                        @Param("id") UUID id,
+                                                        Pageable limit);
+
+    long countByIsPublishedTrue();
 
     @Query("SELECT b FROM BlogPost b WHERE b.isPublished = true AND " +
            "(:categoryId IS NULL OR b.category.id = :categoryId)")
@@ -0,0 +1,80 @@
+package com.travelpro.repository;
+
+import com.travelpro.dto.DestinationSummaryDto;
+import com.travelpro.entity.DestinationCard;
+import com.travelpro.repository.projection.DestinationFacetAttributes;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Listing queries over the {@code destination_cards} read model. Cards exist only for active
+ * destinations and already carry the location names, so none of these filter on activity or join.
+ */
+@Repository
+public interface DestinationCardRepository extends JpaRepository<DestinationCard, UUID> {
+
+    String SUMMARY_SELECT = "SELECT new com.travelpro.dto.DestinationSummaryDto(" +
+            "c.id, c.name, c.slug, c.category, c.shortDescription, c.mainImageUrl, c.rating, c.reviewCount, " +
+            "c.bestTimeToVisit, c.recommendedDuration, c.difficultyLevel, c.latitude, c.longitude, c.isFeatured, " +
+            "c.cityName, c.stateName, c.countryName) FROM DestinationCard c ";
+
+    @Query(value = SUMMARY_SELECT,
+           countQuery = "SELECT COUNT(c) FROM DestinationCard c")
+    Page<DestinationSummaryDto> findSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE c.category = :category",
+           countQuery = "SELECT COUNT(c) FROM DestinationCard c WHERE c.category = :category")
+    Page<DestinationSummaryDto> findSummariesByCategory(@Param("category") String category, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE (:category IS NULL OR c.category = :category) AND " +
+                   "(:country IS NULL OR c.countryName = :country)",
+           countQuery = "SELECT COUNT(c) FROM DestinationCard c WHERE " +
+                        "(:category IS NULL OR c.category = :category) AND " +
+                        "(:country IS NULL OR c.countryName = :country)")
+    Page<DestinationSummaryDto> findSummariesWithFilters(@Param("category") String category,
+                                                         @Param("country") String country,
+                                                         Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE c.isFeatured = true")
+    List<DestinationSummaryDto> findFeaturedSummaries();
+
+    @Query(SUMMARY_SELECT + "ORDER BY c.rating DESC")
+    List<DestinationSummaryDto> findTopSummaries(Pageable limit);
+
+    @Query(SUMMARY_SELECT + "ORDER BY c.name, c.id")
+    List<DestinationSummaryDto> findSummariesOrderByName(Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE (c.name, c.id) > (:name, :id) ORDER BY c.name, c.id")
+    List<DestinationSummaryDto> findSummariesOrderByNameAfter(@Param("name") String name,
+                                                              @Param("id") UUID id,
+                                                              Pageable limit);
+
+    // Unrated destinations scroll as rated 0; NULL would drop them from the row-value seek
+    @Query(SUMMARY_SELECT + "ORDER BY COALESCE(c.rating, 0) DESC, c.id DESC")
+    List<DestinationSummaryDto> findSummariesOrderByRating(Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE (COALESCE(c.rating, 0), c.id) < (:rating, :id) " +
+           "ORDER BY COALESCE(c.rating, 0) DESC, c.id DESC")
+    List<DestinationSummaryDto> findSummariesOrderByRatingAfter(@Param("rating") BigDecimal rating,
+                                                                @Param("id") UUID id,
+                                                                Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE c.id IN :ids")
+    List<DestinationSummaryDto> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT DISTINCT c.category FROM DestinationCard c ORDER BY c.category")
+    List<String> findAllCategories();
+
+    @Query("SELECT c.id AS id, c.category AS category, c.countryName AS countryName, " +
+           "c.difficultyLevel AS difficultyLevel, c.rating AS rating FROM DestinationCard c ORDER BY c.name, c.id")
+    List<DestinationFacetAttributes> findFacetAttributes();
+}
@@ -1,13 +1,18 @@
 package com.travelpro.repository;
 
 import com.travelpro.entity.Destination;
+import com.travelpro.geo.GeoPoint;
+import com.travelpro.repository.projection.DestinationDailyCost;
+import com.travelpro.repository.projection.DestinationMonth;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,30 +22,50 @@ public interface DestinationRepository extends JpaRepository<Destination, UUID>
 
     Optional<Destination> findBySlug(String slug);
 
-    List<Destination> findByIsFeaturedTrueAndIsActiveTrue();
+    @EntityGraph(Destination.DETAIL_GRAPH)
+    @Query("SELECT d FROM Destination d WHERE d.id = :id")
+    Optional<Destination> findDetailById(@Param("id") UUID id);
 
-    Page<Destination> findByIsActiveTrue(Pageable pageable);
+    @EntityGraph(Destination.DETAIL_GRAPH)
+    @Query("SELECT d FROM Destination d WHERE d.slug = :slug")
+    Optional<Destination> findDetailBySlug(@Param("slug") String slug);
 
-    Page<Destination> findByCategoryAndIsActiveTrue(String category, Pageable pageable);
+    @EntityGraph(Destination.DETAIL_GRAPH)
+    @Query("SELECT d FROM Destination d WHERE d.id IN :ids")
+    List<Destination> findDetailByIdIn(@Param("ids") Collection<UUID> ids);
 
-    @Query("SELECT d FROM Destination d WHERE d.isActive = true AND " +
-           "(LOWER(d.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(d.description) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(d.category) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(d.city.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(d.city.state.name) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-           "LOWER(d.city.state.country.name) LIKE LOWER(CONCAT('%', :query, '%')))")
-    Page<Destination> searchDestinations(@Param("query") String query, Pageable pageable);
+    @EntityGraph(Destination.DETAIL_GRAPH)
+    @Query("SELECT d FROM Destination d WHERE d.slug IN :slugs")
+    List<Destination> findDetailBySlugIn(@Param("slugs") Collection<String> slugs);
 
-    @Query("SELECT d FROM Destination d WHERE d.isActive = true AND " +
-           "(:category IS NULL OR d.category = :category) AND " +
-           "(:country IS NULL OR d.city.state.country.name = :country)")
-    Page<Destination> findWithFilters(@Param("category") String category, 
-                                    @Param("country") String country, 
-                                    Pageable pageable);
+    @Query(value = "SELECT d.* FROM destinations d " +
+                   "WHERE d.is_active = true AND d.search_vector @@ to_tsquery('english', :tsQuery) " +
+                   "ORDER BY ts_rank(d.search_vector, to_tsquery('english', :tsQuery)) DESC, d.name",
+           countQuery = "SELECT COUNT(*) FROM destinations d " +
+                        "WHERE d.is_active = true AND d.search_vector @@ to_tsquery('english', :tsQuery)",
+           nativeQuery = true)
+    Page<Destination> searchDestinationsByRank(@Param("tsQuery") String tsQuery, Pageable pageable);
 
-    List<Destination> findTop6ByIsActiveOrderByRatingDesc(Boolean isActive);
+    @Query(value = "SELECT d.* FROM destinations d " +
+                   "WHERE d.is_active = true AND d.search_vector @@ to_tsquery('english', :tsQuery)",
+           countQuery = "SELECT COUNT(*) FROM destinations d " +
+                        "WHERE d.is_active = true AND d.search_vector @@ to_tsquery('english', :tsQuery)",
+           nativeQuery = true)
+    Page<Destination> searchDestinations(@Param("tsQuery") String tsQuery, Pageable pageable);
 
-    @Query("SELECT DISTINCT d.category FROM Destination d WHERE d.isActive = true ORDER BY d.category")
-    List<String> findAllCategories();
+    @Query("SELECT new com.travelpro.geo.GeoPoint(d.id, d.latitude, d.longitude) FROM Destination d " +
+           "WHERE d.isActive = true AND d.latitude IS NOT NULL AND d.longitude IS NOT NULL")
+    List<GeoPoint> findGeoPoints();
+
+    @Query("SELECT b.destination.id AS destinationId, b.budgetType AS budgetType, SUM(b.pricePerDay) AS total " +
+           "FROM DestinationBudget b GROUP BY b.destination.id, b.budgetType")
+    List<DestinationDailyCost> findDailyCostsByBudgetType();
+
+    @Query("SELECT w.destination.id AS destinationId, w.month AS month FROM DestinationWeather w " +
+           "WHERE (w.rainfall IS NULL OR w.rainfall <= :maxRainfall) " +
+           "AND (w.maxTemperature IS NULL OR w.maxTemperature <= :maxTemperature) " +
+           "AND (w.minTemperature IS NULL OR w.minTemperature >= :minTemperature)")
+    List<DestinationMonth> findPleasantMonths(@Param("maxRainfall") int maxRainfall,
+                                              @Param("minTemperature") int minTemperature,
+                                              @Param("maxTemperature") int maxTemperature);
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.travelpro.repository;
+
+import com.travelpro.entity.DestinationReview;
+import com.travelpro.repository.projection.ReviewStatsRow;
+import com.travelpro.repository.projection.TravelTypeStatsRow;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface DestinationReviewRepository extends JpaRepository<DestinationReview, UUID> {
+
+    String PAGE_SELECT = "SELECT r FROM DestinationReview r LEFT JOIN FETCH r.user " +
+                         "WHERE r.destination.id = :destinationId ";
+
+    @Query(PAGE_SELECT + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<DestinationReview> findNewest(@Param("destinationId") UUID destinationId, Pageable limit);
+
+    @Query(PAGE_SELECT + "AND (r.createdAt, r.id) < (:createdAt, :id) ORDER BY r.createdAt DESC, r.id DESC")
+    List<DestinationReview> findNewestAfter(@Param("destinationId") UUID destinationId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") UUID id,
+                                            Pageable limit);
+
+    @Query(PAGE_SELECT + "ORDER BY r.helpfulCount DESC, r.id DESC")
+    List<DestinationReview> findMostHelpful(@Param("destinationId") UUID destinationId, Pageable limit);
+
+    @Query(PAGE_SELECT + "AND (r.helpfulCount, r.id) < (:helpfulCount, :id) ORDER BY r.helpfulCount DESC, r.id DESC")
+    List<DestinationReview> findMostHelpfulAfter(@Param("destinationId") UUID destinationId,
+                                                 @Param("helpfulCount") Integer helpfulCount,
+                                                 @Param("id") UUID id,
+                                                 Pageable limit);
+
+    @Query(value = "SELECT rating_sum AS ratingSum, review_count AS reviewCount, rating_1 AS rating1, " +
+                   "rating_2 AS rating2, rating_3 AS rating3, rating_4 AS rating4, rating_5 AS rating5 " +
+                   "FROM destination_review_stats WHERE destination_id = :destinationId",
+           nativeQuery = true)
+    Optional<ReviewStatsRow> findStats(@Param("destinationId") UUID destinationId);
+
+    @Query(value = "SELECT travel_type AS travelType, rating_sum AS ratingSum, review_count AS reviewCount " +
+                   "FROM destination_review_travel_types " +
+                   "WHERE destination_id = :destinationId AND review_count > 0 ORDER BY travel_type",
+           nativeQuery = true)
+    List<TravelTypeStatsRow> findTravelTypeStats(@Param("destinationId") UUID destinationId);
+
+    /**
+     * Locks the user's review so concurrent edits compute their rating deltas from the value they replace.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM DestinationReview r WHERE r.user.id = :userId AND r.destination.id = :destinationId")
+    Optional<DestinationReview> findForUpdate(@Param("userId") UUID userId, @Param("destinationId") UUID destinationId);
+}
@@ -0,0 +1,34 @@
+package com.travelpro.repository;
+
+import com.travelpro.entity.TripItinerary;
+import com.travelpro.entity.TripPlan;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface TripPlanRepository extends JpaRepository<TripPlan, UUID> {
+
+    @Query("SELECT p FROM TripPlan p WHERE p.user.email = :email ORDER BY p.startDate DESC, p.id")
+    List<TripPlan> findByUserEmail(@Param("email") String email);
+
+    /**
+     * Loads the plan with its days. Their activities are fetched separately by {@link #findDaysWithActivities},
+     * since fetching both lists in one query would multiply the rows.
+     */
+    @Query("SELECT p FROM TripPlan p LEFT JOIN FETCH p.days WHERE p.id = :id")
+    Optional<TripPlan> findWithDaysById(@Param("id") UUID id);
+
+    /**
+     * Initializes the activities, and their attractions, of every day of the plan already loaded in the
+     * persistence context.
+     */
+    @Query("SELECT d FROM TripItinerary d LEFT JOIN FETCH d.activities a LEFT JOIN FETCH a.attraction " +
+           "WHERE d.tripPlan.id = :planId")
+    List<TripItinerary> findDaysWithActivities(@Param("planId") UUID planId);
+}
@@ -0,0 +1,19 @@
+package com.travelpro.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface BlogPostSearchHit {
+    UUID getId();
+    String getTitle();
+    String getSlug();
+    String getExcerpt();
+    String getAuthorName();
+    String getFeaturedImageUrl();
+    Integer getReadTime();
+    LocalDateTime getPublishedAt();
+    String getCategoryName();
+    String getCategorySlug();
+    Float getRank();
+    String getSnippet();
+}
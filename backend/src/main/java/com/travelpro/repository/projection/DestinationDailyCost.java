@@ -0,0 +1,10 @@
+package com.travelpro.repository.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public interface DestinationDailyCost {
+    UUID getDestinationId();
+    String getBudgetType();
+    BigDecimal getTotal();
+}
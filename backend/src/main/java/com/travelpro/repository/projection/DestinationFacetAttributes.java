@@ -0,0 +1,12 @@
+package com.travelpro.repository.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public interface DestinationFacetAttributes {
+    UUID getId();
+    String getCategory();
+    String getCountryName();
+    String getDifficultyLevel();
+    BigDecimal getRating();
+}
@@ -0,0 +1,8 @@
+package com.travelpro.repository.projection;
+
+import java.util.UUID;
+
+public interface DestinationMonth {
+    UUID getDestinationId();
+    Integer getMonth();
+}
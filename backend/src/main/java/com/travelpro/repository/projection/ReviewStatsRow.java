@@ -0,0 +1,11 @@
+package com.travelpro.repository.projection;
+
+public interface ReviewStatsRow {
+    Long getRatingSum();
+    Integer getReviewCount();
+    Integer getRating1();
+    Integer getRating2();
+    Integer getRating3();
+    Integer getRating4();
+    Integer getRating5();
+}
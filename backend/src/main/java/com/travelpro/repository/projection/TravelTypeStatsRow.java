@@ -0,0 +1,7 @@
+package com.travelpro.repository.projection;
+
+public interface TravelTypeStatsRow {
+    String getTravelType();
+    Long getRatingSum();
+    Integer getReviewCount();
+}
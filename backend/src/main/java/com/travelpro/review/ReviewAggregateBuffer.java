@@ -0,0 +1,271 @@
+package com.travelpro.review;
+
+import com.travelpro.cache.CacheChange;
+import com.travelpro.cache.CacheInvalidator;
+import com.travelpro.cache.EntityChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind buffer for the per-destination review aggregates. Committed review writes add a
+ * {@link ReviewDelta}, which is coalesced per destination in memory. Every {@code flush-interval} all pending
+ * deltas are applied in one transaction per {@code flush-batch-size} destinations. The transaction updates
+ * {@code destination_review_stats} (sum, count and rating histogram), {@code destination_review_travel_types}
+ * and, where they change, the destination's rating and review count. The affected cache entries are then evicted
+ * in one pass per flush.
+ *
+ * <p>A destination row is written at most once per flush however many reviews it received. Deltas of deleted
+ * destinations are skipped. A batch that fails for transient reasons is retried with the next flush; one that
+ * violates a constraint is split until the offending delta is isolated and dropped, so it cannot hold back the
+ * rest of its batch. Dropped deltas, and deltas still buffered when a node dies, are lost;
+ * {@code rebuild_destination_review_stats()} recomputes the aggregates.
+ */
+@Slf4j
+@Component
+public class ReviewAggregateBuffer {
+
+    static final String FLUSH_SQL = """
+            WITH delta AS (
+                SELECT * FROM unnest(?::uuid[], ?::bigint[], ?::int[], ?::int[], ?::int[], ?::int[], ?::int[], ?::int[])
+                    AS d(destination_id, rating_sum, review_count, rating_1, rating_2, rating_3, rating_4, rating_5)
+            ), stats AS (
+                INSERT INTO destination_review_stats AS s
+                    (destination_id, rating_sum, review_count, rating_1, rating_2, rating_3, rating_4, rating_5)
+                SELECT delta.* FROM delta JOIN destinations d ON d.id = delta.destination_id
+                ON CONFLICT (destination_id) DO UPDATE
+                    SET rating_sum = s.rating_sum + EXCLUDED.rating_sum,
+                        review_count = s.review_count + EXCLUDED.review_count,
+                        rating_1 = s.rating_1 + EXCLUDED.rating_1,
+                        rating_2 = s.rating_2 + EXCLUDED.rating_2,
+                        rating_3 = s.rating_3 + EXCLUDED.rating_3,
+                        rating_4 = s.rating_4 + EXCLUDED.rating_4,
+                        rating_5 = s.rating_5 + EXCLUDED.rating_5,
+                        updated_at = NOW()
+                RETURNING destination_id, rating_sum, review_count
+            )
+            UPDATE destinations d
+            SET rating = CASE WHEN stats.review_count > 0
+                              THEN ROUND(stats.rating_sum::numeric / stats.review_count, 2) ELSE 0 END,
+                review_count = stats.review_count
+            FROM stats
+            WHERE d.id = stats.destination_id
+              AND d.id = ANY(?::uuid[])
+            RETURNING d.id, d.slug
+            """;
+
+    static final String FLUSH_TRAVEL_TYPES_SQL = """
+            INSERT INTO destination_review_travel_types AS t (destination_id, travel_type, rating_sum, review_count)
+            SELECT delta.* FROM unnest(?::uuid[], ?::varchar[], ?::bigint[], ?::int[])
+                AS delta(destination_id, travel_type, rating_sum, review_count)
+            JOIN destinations d ON d.id = delta.destination_id
+            ON CONFLICT (destination_id, travel_type) DO UPDATE
+                SET rating_sum = t.rating_sum + EXCLUDED.rating_sum,
+                    review_count = t.review_count + EXCLUDED.review_count,
+                    updated_at = NOW()
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheInvalidator cacheInvalidator;
+    private final int batchSize;
+
+    private final Map<UUID, ReviewDelta> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter flushedDestinations;
+    private final Counter failedFlushes;
+    private final Counter droppedDeltas;
+
+    public ReviewAggregateBuffer(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 CacheInvalidator cacheInvalidator,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.reviews.flush-batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheInvalidator = cacheInvalidator;
+        this.batchSize = batchSize;
+        Gauge.builder("reviews.aggregates.pending", pending, Map::size)
+                .description("Destinations with review aggregate changes waiting to be flushed")
+                .register(meterRegistry);
+        this.flushedDestinations = Counter.builder("reviews.aggregates.flushed")
+                .description("Destination aggregate updates written by the write-behind flush")
+                .register(meterRegistry);
+        this.failedFlushes = Counter.builder("reviews.aggregates.flush.failures")
+                .description("Flushes that failed and were left pending for the next attempt")
+                .register(meterRegistry);
+        this.droppedDeltas = Counter.builder("reviews.aggregates.dropped")
+                .description("Destination deltas dropped because they violate a constraint, e.g. a deleted destination")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Buffers the delta once the current transaction commits, so rolled-back review writes never count.
+     * Outside a transaction the delta is buffered immediately.
+     */
+    public void recordAfterCommit(UUID destinationId, ReviewDelta delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(destinationId, delta);
+                }
+            });
+        } else {
+            record(destinationId, delta);
+        }
+    }
+
+    void record(UUID destinationId, ReviewDelta delta) {
+        pending.merge(destinationId, delta, ReviewDelta::plus);
+    }
+
+    @Scheduled(fixedDelayString = "${app.reviews.flush-interval:PT2S}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Map.Entry<UUID, ReviewDelta>> drained = drain();
+            // Sorted so that concurrent flushes from several nodes lock destination rows in the same order
+            drained.sort(Map.Entry.comparingByKey(Comparator.naturalOrder()));
+            List<EntityChangedEvent> changes = new ArrayList<>();
+            for (int from = 0; from < drained.size(); from += batchSize) {
+                flushBatch(drained.subList(from, Math.min(from + batchSize, drained.size())), changes);
+            }
+            // One eviction pass per flush, so the listing caches are cleared once rather than per destination
+            cacheInvalidator.invalidateAll(changes);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private List<Map.Entry<UUID, ReviewDelta>> drain() {
+        List<Map.Entry<UUID, ReviewDelta>> drained = new ArrayList<>();
+        for (UUID destinationId : pending.keySet()) {
+            ReviewDelta delta = pending.remove(destinationId);
+            if (delta != null && !delta.isZero()) {
+                drained.add(Map.entry(destinationId, delta));
+            }
+        }
+        return drained;
+    }
+
+    private void flushBatch(List<Map.Entry<UUID, ReviewDelta>> batch, List<EntityChangedEvent> changes) {
+        List<EntityChangedEvent> ratingChanges;
+        try {
+            ratingChanges = transactionTemplate.execute(status -> {
+                List<EntityChangedEvent> changed = applyStats(batch);
+                applyTravelTypes(batch);
+                return changed;
+            });
+        } catch (DataIntegrityViolationException ex) {
+            // Retrying would fail the same way, so isolate the offending destination instead of re-queueing
+            if (batch.size() > 1) {
+                int middle = batch.size() / 2;
+                flushBatch(batch.subList(0, middle), changes);
+                flushBatch(batch.subList(middle, batch.size()), changes);
+                return;
+            }
+            droppedDeltas.increment();
+            log.error("Dropping review aggregate delta of destination {}; rebuild_destination_review_stats() "
+                    + "recomputes it", batch.get(0).getKey(), ex);
+            return;
+        } catch (RuntimeException ex) {
+            batch.forEach(entry -> record(entry.getKey(), entry.getValue()));
+            failedFlushes.increment();
+            log.warn("Could not flush review aggregates for {} destinations, retrying with the next flush",
+                    batch.size(), ex);
+            return;
+        }
+        flushedDestinations.increment(batch.size());
+        batch.forEach(entry -> changes.add(EntityChangedEvent.of(CacheChange.REVIEW_STATS, entry.getKey())));
+        changes.addAll(ratingChanges);
+        log.debug("Flushed review aggregates for {} destinations, {} ratings changed", batch.size(), ratingChanges.size());
+    }
+
+    private List<EntityChangedEvent> applyStats(List<Map.Entry<UUID, ReviewDelta>> batch) {
+        int size = batch.size();
+        UUID[] ids = new UUID[size];
+        Long[] ratingSums = new Long[size];
+        Integer[] reviewCounts = new Integer[size];
+        Integer[][] ratingCounts = new Integer[ReviewDelta.MAX_RATING][size];
+        List<UUID> ratingChanged = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            ReviewDelta delta = batch.get(i).getValue();
+            ids[i] = batch.get(i).getKey();
+            ratingSums[i] = delta.ratingSum();
+            reviewCounts[i] = delta.reviewCount();
+            for (int rating = 0; rating < ReviewDelta.MAX_RATING; rating++) {
+                ratingCounts[rating][i] = delta.ratingCounts().get(rating);
+            }
+            if (delta.changesRating()) {
+                ratingChanged.add(ids[i]);
+            }
+        }
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(FLUSH_SQL);
+            statement.setArray(1, connection.createArrayOf("uuid", ids));
+            statement.setArray(2, connection.createArrayOf("bigint", ratingSums));
+            statement.setArray(3, connection.createArrayOf("integer", reviewCounts));
+            for (int rating = 0; rating < ReviewDelta.MAX_RATING; rating++) {
+                statement.setArray(4 + rating, connection.createArrayOf("integer", ratingCounts[rating]));
+            }
+            // Only destinations whose rating or count moved are rewritten, which also fires their card trigger
+            statement.setArray(9, connection.createArrayOf("uuid", ratingChanged.toArray()));
+            return statement;
+        }, (resultSet, rowNum) -> EntityChangedEvent.of(CacheChange.DESTINATION_RATING,
+                resultSet.getObject(1, UUID.class), resultSet.getString(2)));
+    }
+
+    private void applyTravelTypes(List<Map.Entry<UUID, ReviewDelta>> batch) {
+        List<UUID> ids = new ArrayList<>();
+        List<String> types = new ArrayList<>();
+        List<Long> ratingSums = new ArrayList<>();
+        List<Integer> reviewCounts = new ArrayList<>();
+        for (Map.Entry<UUID, ReviewDelta> entry : batch) {
+            entry.getValue().travelTypes().entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(type -> {
+                        ids.add(entry.getKey());
+                        types.add(type.getKey());
+                        ratingSums.add(type.getValue().ratingSum());
+                        reviewCounts.add(type.getValue().reviewCount());
+                    });
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(FLUSH_TRAVEL_TYPES_SQL);
+            statement.setArray(1, connection.createArrayOf("uuid", ids.toArray()));
+            statement.setArray(2, connection.createArrayOf("varchar", types.toArray()));
+            statement.setArray(3, connection.createArrayOf("bigint", ratingSums.toArray()));
+            statement.setArray(4, connection.createArrayOf("integer", reviewCounts.toArray()));
+            return statement;
+        });
+    }
+}
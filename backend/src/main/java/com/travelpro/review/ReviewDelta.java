@@ -0,0 +1,71 @@
+package com.travelpro.review;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Change to a destination's review aggregates: the running rating sum and review count, the number of
+ * reviews per rating (index 0 holds 1-star reviews) and the sum and count per travel type. A new review
+ * adds its contribution, a deletion subtracts it and an edit does both.
+ */
+public record ReviewDelta(long ratingSum, int reviewCount, List<Integer> ratingCounts,
+                          Map<String, TravelTypeDelta> travelTypes) {
+
+    public static final int MAX_RATING = 5;
+
+    public record TravelTypeDelta(long ratingSum, int reviewCount) {
+
+        TravelTypeDelta plus(TravelTypeDelta other) {
+            return new TravelTypeDelta(ratingSum + other.ratingSum, reviewCount + other.reviewCount);
+        }
+    }
+
+    public static ReviewDelta added(int rating, String travelType) {
+        List<Integer> ratingCounts = new ArrayList<>(List.of(0, 0, 0, 0, 0));
+        ratingCounts.set(rating - 1, 1);
+        Map<String, TravelTypeDelta> travelTypes = travelType != null
+                ? Map.of(travelType, new TravelTypeDelta(rating, 1))
+                : Map.of();
+        return new ReviewDelta(rating, 1, List.copyOf(ratingCounts), travelTypes);
+    }
+
+    public static ReviewDelta removed(int rating, String travelType) {
+        return added(rating, travelType).negate();
+    }
+
+    public static ReviewDelta changed(int oldRating, String oldTravelType, int newRating, String newTravelType) {
+        return removed(oldRating, oldTravelType).plus(added(newRating, newTravelType));
+    }
+
+    public ReviewDelta plus(ReviewDelta other) {
+        List<Integer> counts = new ArrayList<>(MAX_RATING);
+        for (int i = 0; i < MAX_RATING; i++) {
+            counts.add(ratingCounts.get(i) + other.ratingCounts.get(i));
+        }
+        Map<String, TravelTypeDelta> types = new HashMap<>(travelTypes);
+        other.travelTypes.forEach((type, delta) -> types.merge(type, delta, TravelTypeDelta::plus));
+        types.values().removeIf(delta -> delta.ratingSum() == 0 && delta.reviewCount() == 0);
+        return new ReviewDelta(ratingSum + other.ratingSum, reviewCount + other.reviewCount,
+                List.copyOf(counts), Map.copyOf(types));
+    }
+
+    /**
+     * Whether the destination's rating or review count changes, as opposed to only its breakdowns.
+     */
+    public boolean changesRating() {
+        return ratingSum != 0 || reviewCount != 0;
+    }
+
+    public boolean isZero() {
+        return !changesRating() && ratingCounts.stream().allMatch(count -> count == 0) && travelTypes.isEmpty();
+    }
+
+    private ReviewDelta negate() {
+        Map<String, TravelTypeDelta> types = new HashMap<>();
+        travelTypes.forEach((type, delta) -> types.put(type, new TravelTypeDelta(-delta.ratingSum(), -delta.reviewCount())));
+        return new ReviewDelta(-ratingSum, -reviewCount,
+                ratingCounts.stream().map(count -> -count).toList(), Map.copyOf(types));
+    }
+}
@@ -0,0 +1,128 @@
+package com.travelpro.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Search autocomplete over destination, city, state and country names, blog titles and the most frequent
+ * past searches, held in a {@link SuggestionTrie}. A suggestion's weight is how often it was searched within
+ * {@code history-window}, plus one for names and titles so they are offered before anyone searched them.
+ *
+ * <p>The trie is built during the cache warm-up and rebuilt every {@code refresh-interval}; a rebuild swaps
+ * the reference, so lookups never touch the database and always see a complete trie.
+ */
+@Slf4j
+@Component
+public class SearchSuggestionIndex {
+
+    static final String NAMES_SQL = """
+            SELECT 'destination', d.name FROM destinations d WHERE d.is_active = true
+            UNION ALL
+            SELECT DISTINCT 'city', c.name FROM cities c
+            JOIN destinations d ON d.city_id = c.id AND d.is_active = true
+            UNION ALL
+            SELECT DISTINCT 'state', s.name FROM states s
+            JOIN cities c ON c.state_id = s.id
+            JOIN destinations d ON d.city_id = c.id AND d.is_active = true
+            UNION ALL
+            SELECT DISTINCT 'country', co.name FROM countries co
+            JOIN states s ON s.country_id = co.id
+            JOIN cities c ON c.state_id = s.id
+            JOIN destinations d ON d.city_id = c.id AND d.is_active = true
+            UNION ALL
+            SELECT 'blog', p.title FROM blog_posts p WHERE p.is_published = true
+            """;
+
+    static final String TOP_QUERIES_SQL = """
+            SELECT query, SUM(search_count) AS searches
+            FROM search_query_daily
+            WHERE day >= CURRENT_DATE - ?
+            GROUP BY query
+            HAVING SUM(search_count) >= ? AND COALESCE(MAX(results_count), 1) > 0
+            ORDER BY searches DESC
+            LIMIT ?
+            """;
+
+    static final String QUERY_TYPE = "query";
+
+    // When a name belongs to several sources, it is offered as the first of them
+    private static final List<String> TYPE_PRIORITY = List.of("destination", "city", "state", "country", "blog");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxPerPrefix;
+    private final int historyDays;
+    private final int minSearches;
+    private final int maxQueries;
+
+    private volatile SuggestionTrie trie = SuggestionTrie.empty();
+
+    public SearchSuggestionIndex(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.search.suggest.max-suggestions:10}") int maxPerPrefix,
+                                 @Value("${app.search.suggest.history-window:30d}") Duration historyWindow,
+                                 @Value("${app.search.suggest.min-searches:3}") int minSearches,
+                                 @Value("${app.search.suggest.max-queries:5000}") int maxQueries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxPerPrefix = maxPerPrefix;
+        this.historyDays = (int) historyWindow.toDays();
+        this.minSearches = minSearches;
+        this.maxQueries = maxQueries;
+    }
+
+    /**
+     * @return up to {@code limit} completions of {@code prefix}, best first; empty until the first build
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        return trie.suggest(prefix, Math.min(limit, maxPerPrefix));
+    }
+
+    public int getMaxSuggestions() {
+        return maxPerPrefix;
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.suggest.refresh-interval:PT10M}",
+               initialDelayString = "${app.search.suggest.refresh-interval:PT10M}")
+    public void rebuild() {
+        long start = System.nanoTime();
+        // Read-only, so that the build is served by a read replica when they are enabled
+        Map<String, Suggestion> suggestions = readOnlyTransaction.execute(status -> loadSuggestions());
+        SuggestionTrie rebuilt = SuggestionTrie.build(suggestions.values(), maxPerPrefix);
+        trie = rebuilt;
+        log.debug("Indexed {} search suggestions in {} ms", rebuilt.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private Map<String, Suggestion> loadSuggestions() {
+        Map<String, Suggestion> suggestions = new LinkedHashMap<>();
+        jdbcTemplate.query(NAMES_SQL, resultSet -> {
+            addName(suggestions, resultSet.getString(1), resultSet.getString(2));
+        });
+        jdbcTemplate.query(TOP_QUERIES_SQL, resultSet -> {
+            addSearches(suggestions, resultSet.getString(1), resultSet.getLong(2));
+        }, historyDays, minSearches, maxQueries);
+        return suggestions;
+    }
+
+    static void addName(Map<String, Suggestion> suggestions, String type, String text) {
+        suggestions.merge(SuggestionTrie.normalize(text), new Suggestion(text, type, 1),
+                (existing, added) -> TYPE_PRIORITY.indexOf(added.type()) < TYPE_PRIORITY.indexOf(existing.type())
+                        ? added : existing);
+    }
+
+    static void addSearches(Map<String, Suggestion> suggestions, String query, long searches) {
+        suggestions.merge(SuggestionTrie.normalize(query), new Suggestion(query, QUERY_TYPE, searches),
+                (existing, added) -> new Suggestion(existing.text(), existing.type(), existing.weight() + searches));
+    }
+}
@@ -0,0 +1,8 @@
+package com.travelpro.search;
+
+/**
+ * A completion offered by search autocomplete. {@code type} names its source, e.g. {@code destination},
+ * {@code city} or {@code query} for a popular past search.
+ */
+public record Suggestion(String text, String type, long weight) {
+}
@@ -0,0 +1,136 @@
+package com.travelpro.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable prefix tree over weighted suggestions. Every suggestion is reachable from the start of each of
+ * its words, so "york" finds "New York". Each node stores its best {@code maxPerPrefix} completions, ordered
+ * by weight, which makes a lookup a walk down the prefix with no subtree traversal. Keys are
+ * {@linkplain #normalize normalized}, so matching ignores case, accents and punctuation.
+ */
+public final class SuggestionTrie {
+
+    static final Comparator<Suggestion> RANKING = Comparator.comparingLong(Suggestion::weight).reversed()
+            .thenComparingInt(suggestion -> suggestion.text().length())
+            .thenComparing(Suggestion::text);
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final SuggestionTrie EMPTY = new SuggestionTrie(new Node(new char[0], new Node[0], new Suggestion[0]), 0);
+
+    private final Node root;
+    private final int size;
+
+    private SuggestionTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static SuggestionTrie empty() {
+        return EMPTY;
+    }
+
+    public static SuggestionTrie build(Collection<Suggestion> suggestions, int maxPerPrefix) {
+        Builder root = new Builder();
+        int size = 0;
+        for (Suggestion suggestion : suggestions) {
+            String key = normalize(suggestion.text());
+            if (key.isEmpty()) {
+                continue;
+            }
+            size++;
+            int wordStart = 0;
+            while (wordStart >= 0) {
+                root.insert(key, wordStart, suggestion);
+                int space = key.indexOf(' ', wordStart);
+                wordStart = space < 0 ? -1 : space + 1;
+            }
+        }
+        return new SuggestionTrie(root.freeze(maxPerPrefix), size);
+    }
+
+    /**
+     * @return the best completions of {@code prefix}, at most {@code limit} and at most {@code maxPerPrefix}
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        return Arrays.asList(node.top).subList(0, Math.min(limit, node.top.length));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Lower-cases, strips accents and collapses everything but letters and digits into single spaces.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = MARKS.matcher(decomposed).replaceAll("");
+        return SEPARATORS.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").strip();
+    }
+
+    private record Node(char[] keys, Node[] children, Suggestion[] top) {
+
+        Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    private static final class Builder {
+
+        private final Map<Character, Builder> children = new TreeMap<>();
+        private final List<Suggestion> terminals = new ArrayList<>(1);
+
+        void insert(String key, int from, Suggestion suggestion) {
+            Builder node = this;
+            for (int i = from; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Builder());
+            }
+            node.terminals.add(suggestion);
+        }
+
+        Node freeze(int maxPerPrefix) {
+            char[] keys = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            List<Suggestion> candidates = new ArrayList<>(terminals);
+            int i = 0;
+            for (Map.Entry<Character, Builder> entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                frozen[i] = entry.getValue().freeze(maxPerPrefix);
+                candidates.addAll(Arrays.asList(frozen[i].top));
+                i++;
+            }
+            // A suggestion reaches a node once per word that starts with the node's prefix
+            Suggestion[] top = candidates.stream()
+                    .distinct()
+                    .sorted(RANKING)
+                    .limit(maxPerPrefix)
+                    .toArray(Suggestion[]::new);
+            return new Node(keys, frozen, top);
+        }
+    }
+}
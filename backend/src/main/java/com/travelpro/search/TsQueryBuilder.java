@@ -0,0 +1,32 @@
+package com.travelpro.search;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Turns free-text user input into a safe PostgreSQL {@code to_tsquery} expression.
+ * Every term is prefix-matched so partially typed words still hit the GIN index.
+ */
+public final class TsQueryBuilder {
+
+    private static final int MAX_TERMS = 8;
+
+    private TsQueryBuilder() {
+    }
+
+    /**
+     * @return the tsquery text, or {@code null} when the input has no searchable terms
+     */
+    public static String prefixQuery(String input) {
+        if (input == null) {
+            return null;
+        }
+        String tsQuery = Arrays.stream(input.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .limit(MAX_TERMS)
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+        return tsQuery.isEmpty() ? null : tsQuery;
+    }
+}
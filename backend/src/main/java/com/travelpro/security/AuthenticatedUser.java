@@ -0,0 +1,8 @@
+package com.travelpro.security;
+
+/**
+ * Identity needed to authenticate a request bearing a verified JWT. Cached in {@code users};
+ * deliberately holds no credentials.
+ */
+public record AuthenticatedUser(String email, boolean active) {
+}
@@ -2,6 +2,7 @@ package com.travelpro.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 @Slf4j
@@ -17,11 +19,16 @@ public class JwtTokenProvider {
 
     private final SecretKey jwtSecret;
     private final int jwtExpirationInMs;
+    private final JwtParser jwtParser;
 
     public JwtTokenProvider(@Value("${app.jwt.secret}") String jwtSecret,
                            @Value("${app.jwt.expiration}") int jwtExpirationInMs) {
         this.jwtSecret = Keys.hmacShaKeyFor(jwtSecret.getBytes());
         this.jwtExpirationInMs = jwtExpirationInMs;
+        // Parsers are immutable and thread-safe; building one per call re-derives the key setup
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(this.jwtSecret)
+                .build();
     }
 
     public String generateToken(Authentication authentication) {
@@ -37,9 +44,7 @@ public class JwtTokenProvider {
     }
 
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(jwtSecret)
-                .build()
+        Claims claims = jwtParser
                 .parseClaimsJws(token)
                 .getBody();
 
@@ -47,12 +52,20 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String authToken) {
+        return verify(authToken).isPresent();
+    }
+
+    /**
+     * Checks signature and expiry with a single parse and returns the claims the caller needs.
+     */
+    public Optional<VerifiedToken> verify(String authToken) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(jwtSecret)
-                .build()
-                .parseClaimsJws(authToken);
-            return true;
+            Claims claims = jwtParser
+                .parseClaimsJws(authToken)
+                .getBody();
+            Date expiration = claims.getExpiration();
+            return Optional.of(new VerifiedToken(claims.getSubject(),
+                    expiration != null ? expiration.toInstant() : null));
         } catch (SecurityException ex) {
             log.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
@@ -64,6 +77,6 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
         }
-        return false;
+        return Optional.empty();
     }
 }
\ No newline at end of file
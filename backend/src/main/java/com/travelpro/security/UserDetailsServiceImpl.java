@@ -3,6 +3,7 @@ package com.travelpro.security;
 import com.travelpro.entity.User;
 import com.travelpro.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -33,4 +34,17 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 .disabled(!user.getIsActive())
                 .build();
     }
+
+    /**
+     * Identity lookup for JWT-authenticated requests. Cached so that authenticated endpoints do not
+     * query the database per request; evicted when the {@link User} row changes.
+     */
+    @Cacheable(value = "users", key = "#email")
+    @Transactional(readOnly = true)
+    public AuthenticatedUser loadAuthenticatedUser(String email) throws UsernameNotFoundException {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+
+        return new AuthenticatedUser(user.getEmail(), Boolean.TRUE.equals(user.getIsActive()));
+    }
 }
\ No newline at end of file
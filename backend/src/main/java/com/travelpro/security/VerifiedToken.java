@@ -0,0 +1,9 @@
+package com.travelpro.security;
+
+import java.time.Instant;
+
+/**
+ * Claims of a JWT whose signature and expiry have been checked.
+ */
+public record VerifiedToken(String subject, Instant expiresAt) {
+}
@@ -1,73 +1,149 @@
 package com.travelpro.service;
 
+import com.travelpro.cache.CacheBatchLoader;
+import com.travelpro.cache.CachedPage;
+import com.travelpro.datasource.ReadFromPrimary;
+import com.travelpro.dto.BatchLookupResponse;
 import com.travelpro.dto.BlogCategoryDto;
 import com.travelpro.dto.BlogPostDto;
+import com.travelpro.dto.CursorPage;
+import com.travelpro.dto.BlogSearchResultDto;
 import com.travelpro.entity.BlogPost;
+import com.travelpro.exception.BadRequestException;
 import com.travelpro.mapper.BlogMapper;
+import com.travelpro.pagination.CursorCodec;
+import com.travelpro.pagination.KeysetCursor;
+import com.travelpro.pagination.KeysetPager;
 import com.travelpro.repository.BlogCategoryRepository;
 import com.travelpro.repository.BlogPostRepository;
+import com.travelpro.search.TsQueryBuilder;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "travelpro.service", histogram = true)
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class BlogService {
 
+    public static final Set<String> SORTABLE_FIELDS = Set.of("publishedAt", "title", "readTime", "createdAt");
+
+    private static final String SCROLL_BY_PUBLISHED_AT = "publishedAt";
+    private static final int MAX_BATCH_KEYS = 100;
+
     private final BlogPostRepository blogPostRepository;
     private final BlogCategoryRepository blogCategoryRepository;
     private final BlogMapper blogMapper;
+    private final CacheBatchLoader cacheBatchLoader;
 
-    @Cacheable(value = "blogPosts", key = "#pageable.pageNumber + '_' + #pageable.pageSize")
+    @Cacheable(value = "blogPosts", key = "T(com.travelpro.cache.CacheKeys).page(#pageable)",
+               condition = "T(com.travelpro.cache.CacheKeys).isCacheable(#pageable)", sync = true)
     public Page<BlogPostDto> getAllBlogPosts(Pageable pageable) {
         log.debug("Fetching all blog posts with pagination: {}", pageable);
-        Page<BlogPost> posts = blogPostRepository.findByIsPublishedTrueOrderByPublishedAtDesc(pageable);
-        return posts.map(blogMapper::toDto);
+        Page<BlogPost> posts = blogPostRepository.findByIsPublishedTrue(pageable);
+        return CachedPage.of(posts.map(blogMapper::toDto));
+    }
+
+    public CursorPage<BlogPostDto> scrollBlogPosts(String cursor, int size, boolean withTotal) {
+        log.debug("Scrolling blog posts - size: {}", size);
+        KeysetCursor position = CursorCodec.decode(cursor, SCROLL_BY_PUBLISHED_AT);
+        int pageSize = KeysetPager.clampSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<BlogPost> rows = position == null
+                ? blogPostRepository.findPublishedOrderByPublishedAt(limit)
+                : blogPostRepository.findPublishedOrderByPublishedAtAfter(
+                        KeysetPager.parseValue(position, LocalDateTime::parse), position.id(), limit);
+
+        return KeysetPager.slice(rows, pageSize,
+                post -> new KeysetCursor(SCROLL_BY_PUBLISHED_AT, scrollPosition(post).toString(), post.getId()),
+                blogMapper::toDto,
+                withTotal ? blogPostRepository::countByIsPublishedTrue : null);
     }
 
-    @Cacheable(value = "blogPost", key = "#slug")
+    // Same coalescing as the scroll queries, so a post published without a date does not end the scroll
+    private static LocalDateTime scrollPosition(BlogPost post) {
+        return post.getPublishedAt() != null ? post.getPublishedAt() : post.getCreatedAt();
+    }
+
+    @Cacheable(value = "blogPost", key = "#slug", sync = true)
     public Optional<BlogPostDto> getBlogPostBySlug(String slug) {
         log.debug("Fetching blog post by slug: {}", slug);
         return blogPostRepository.findBySlug(slug)
                 .map(blogMapper::toDto);
     }
 
-    @Cacheable(value = "featuredBlogPosts")
+    /**
+     * Posts for many slugs at once, sharing the {@code blogPost} cache entries of the single lookups.
+     */
+    @ReadFromPrimary
+    public BatchLookupResponse<BlogPostDto> getBlogPostsBatch(List<String> slugs) {
+        List<String> slugKeys = slugs != null ? slugs.stream().distinct().toList() : List.of();
+        log.debug("Fetching blog posts in batch - slugs: {}", slugKeys.size());
+        if (slugKeys.isEmpty()) {
+            throw new BadRequestException("slugs must be provided");
+        }
+        if (slugKeys.size() > MAX_BATCH_KEYS) {
+            throw new BadRequestException("At most " + MAX_BATCH_KEYS + " slugs can be requested at once");
+        }
+
+        Map<String, BlogPostDto> bySlug = cacheBatchLoader.getAll("blogPost", slugKeys, BlogPostDto.class,
+                missing -> blogPostRepository.findBySlugIn(missing).stream()
+                        .collect(Collectors.toMap(BlogPost::getSlug, blogMapper::toDto)));
+        return BatchLookupResponse.<BlogPostDto>builder()
+                .items(slugKeys.stream().map(bySlug::get).filter(Objects::nonNull).toList())
+                .missing(slugKeys.stream().filter(slug -> !bySlug.containsKey(slug)).toList())
+                .build();
+    }
+
+    @Cacheable(value = "featuredBlogPosts", sync = true)
     public List<BlogPostDto> getFeaturedBlogPosts() {
         log.debug("Fetching featured blog posts");
         List<BlogPost> posts = blogPostRepository.findByIsFeaturedTrueAndIsPublishedTrueOrderByPublishedAtDesc();
         return blogMapper.toPostDtoList(posts);
     }
 
-    public Page<BlogPostDto> searchBlogPosts(String query, Pageable pageable) {
+    public Page<BlogSearchResultDto> searchBlogPosts(String query, Pageable pageable) {
         log.debug("Searching blog posts with query: {}", query);
-        Page<BlogPost> posts = blogPostRepository.searchBlogPosts(query, pageable);
-        return posts.map(blogMapper::toDto);
+        String tsQuery = TsQueryBuilder.prefixQuery(query);
+        if (tsQuery == null) {
+            return Page.empty(pageable);
+        }
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return blogPostRepository.searchBlogPosts(tsQuery, unsorted)
+                .map(blogMapper::toDto);
     }
 
     public Page<BlogPostDto> getBlogPostsByCategory(UUID categoryId, Pageable pageable) {
         log.debug("Fetching blog posts by category: {}", categoryId);
-        Page<BlogPost> posts = blogPostRepository.findByCategoryIdAndIsPublishedTrueOrderByPublishedAtDesc(categoryId, pageable);
+        Page<BlogPost> posts = blogPostRepository.findByCategoryIdAndIsPublishedTrue(categoryId, pageable);
         return posts.map(blogMapper::toDto);
     }
 
-    @Cacheable(value = "blogCategories")
+    @Cacheable(value = "blogCategories", sync = true)
     public List<BlogCategoryDto> getAllCategories() {
         log.debug("Fetching all blog categories");
         return blogMapper.toCategoryDtoList(blogCategoryRepository.findByIsActiveTrueOrderBySortOrder());
     }
 
-    @Cacheable(value = "blogCategory", key = "#slug")
+    @Cacheable(value = "blogCategory", key = "#slug", sync = true)
     public Optional<BlogCategoryDto> getCategoryBySlug(String slug) {
         log.debug("Fetching blog category by slug: {}", slug);
         return blogCategoryRepository.findBySlug(slug)
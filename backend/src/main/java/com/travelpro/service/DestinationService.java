@@ -1,9 +1,32 @@
 package com.travelpro.service;
 
+import com.travelpro.cache.CacheBatchLoader;
+import com.travelpro.cache.CachedPage;
+import com.travelpro.datasource.ReadFromPrimary;
+import com.travelpro.dto.BatchLookupResponse;
+import com.travelpro.dto.CursorPage;
 import com.travelpro.dto.DestinationDto;
+import com.travelpro.dto.DestinationFacetsDto;
+import com.travelpro.dto.DestinationSummaryDto;
+import com.travelpro.dto.NearbyDestinationDto;
 import com.travelpro.entity.Destination;
+import com.travelpro.exception.BadRequestException;
+import com.travelpro.facet.DestinationFacetIndex;
+import com.travelpro.facet.FacetIndex;
+import com.travelpro.facet.FacetQuery;
+import com.travelpro.facet.FacetResult;
+import com.travelpro.geo.DestinationGeoIndex;
+import com.travelpro.geo.GeoNeighbour;
 import com.travelpro.mapper.DestinationMapper;
+import com.travelpro.metrics.QueryBudget;
+import com.travelpro.pagination.CursorCodec;
+import com.travelpro.pagination.KeysetCursor;
+import com.travelpro.pagination.KeysetPager;
+import com.travelpro.pagination.PageRequests;
+import com.travelpro.repository.DestinationCardRepository;
 import com.travelpro.repository.DestinationRepository;
+import com.travelpro.search.TsQueryBuilder;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -14,80 +37,261 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "travelpro.service", histogram = true)
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class DestinationService {
 
+    public static final Set<String> SORTABLE_FIELDS = Set.of("name", "category", "rating", "reviewCount", "createdAt");
+
+    private static final int TOP_DESTINATIONS_LIMIT = 6;
+    private static final int MAX_NEARBY_LIMIT = 100;
+    private static final double MAX_NEARBY_RADIUS_KM = 1000;
+    private static final int MAX_BATCH_KEYS = 100;
+
+    private static final String SCROLL_BY_NAME = "name";
+    private static final String SCROLL_BY_RATING = "rating";
+
+    private static final Map<String, String> SEARCH_SORT_COLUMNS = Map.of(
+            "name", "name",
+            "category", "category",
+            "rating", "rating",
+            "reviewCount", "review_count",
+            "createdAt", "created_at");
+
     private final DestinationRepository destinationRepository;
+    private final DestinationCardRepository destinationCardRepository;
     private final DestinationMapper destinationMapper;
+    private final DestinationGeoIndex destinationGeoIndex;
+    private final DestinationFacetIndex destinationFacetIndex;
+    private final CacheBatchLoader cacheBatchLoader;
 
-    @Cacheable(value = "destinations", key = "#pageable.pageNumber + '_' + #pageable.pageSize + '_' + #pageable.sort")
-    public Page<DestinationDto> getAllDestinations(Pageable pageable) {
+    @Cacheable(value = "destinations", key = "T(com.travelpro.cache.CacheKeys).page(#pageable)",
+               condition = "T(com.travelpro.cache.CacheKeys).isCacheable(#pageable)", sync = true)
+    public Page<DestinationSummaryDto> getAllDestinations(Pageable pageable) {
         log.debug("Fetching all destinations with pagination: {}", pageable);
-        Page<Destination> destinations = destinationRepository.findByIsActiveTrue(pageable);
-        return destinations.map(destinationMapper::toDto);
+        return CachedPage.of(destinationCardRepository.findSummaries(pageable));
+    }
+
+    public CursorPage<DestinationSummaryDto> scrollDestinations(String cursor, int size, String sortBy,
+                                                                boolean withTotal) {
+        log.debug("Scrolling destinations - sortBy: {}, size: {}", sortBy, size);
+        String sort = SCROLL_BY_RATING.equals(sortBy) ? SCROLL_BY_RATING : SCROLL_BY_NAME;
+        KeysetCursor position = CursorCodec.decode(cursor, sort);
+        int pageSize = KeysetPager.clampSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<DestinationSummaryDto> rows;
+        Function<DestinationSummaryDto, KeysetCursor> cursorOf;
+        if (SCROLL_BY_RATING.equals(sort)) {
+            rows = position == null
+                    ? destinationCardRepository.findSummariesOrderByRating(limit)
+                    : destinationCardRepository.findSummariesOrderByRatingAfter(
+                            KeysetPager.parseValue(position, BigDecimal::new), position.id(), limit);
+            // Same coalescing as the query, so the next slice continues after unrated destinations too
+            cursorOf = row -> new KeysetCursor(sort,
+                    (row.getRating() != null ? row.getRating() : BigDecimal.ZERO).toPlainString(), row.getId());
+        } else {
+            rows = position == null
+                    ? destinationCardRepository.findSummariesOrderByName(limit)
+                    : destinationCardRepository.findSummariesOrderByNameAfter(position.value(), position.id(), limit);
+            cursorOf = row -> new KeysetCursor(sort, row.getName(), row.getId());
+        }
+
+        return KeysetPager.slice(rows, pageSize, cursorOf, Function.identity(),
+                withTotal ? destinationCardRepository::count : null);
     }
 
-    @Cacheable(value = "destination", key = "#slug")
+    @Cacheable(value = "destination", key = "#slug", sync = true)
     public Optional<DestinationDto> getDestinationBySlug(String slug) {
         log.debug("Fetching destination by slug: {}", slug);
-        return destinationRepository.findBySlug(slug)
+        return destinationRepository.findDetailBySlug(slug)
                 .map(destinationMapper::toDto);
     }
 
-    @Cacheable(value = "destination", key = "#id")
+    @Cacheable(value = "destination", key = "#id", sync = true)
     public Optional<DestinationDto> getDestinationById(UUID id) {
         log.debug("Fetching destination by id: {}", id);
-        return destinationRepository.findById(id)
+        return destinationRepository.findDetailById(id)
                 .map(destinationMapper::toDto);
     }
 
-    @Cacheable(value = "featuredDestinations")
-    public List<DestinationDto> getFeaturedDestinations() {
+    /**
+     * Detail views for many destinations at once, sharing the {@code destination} cache entries of the
+     * single lookups. Cache hits cost one Redis round trip, misses one query per key kind plus the
+     * {@code @BatchSize} collection fetches.
+     */
+    @QueryBudget(20)
+    @ReadFromPrimary
+    public BatchLookupResponse<DestinationDto> getDestinationsBatch(List<UUID> ids, List<String> slugs) {
+        List<UUID> idKeys = ids != null ? ids : List.of();
+        List<String> slugKeys = slugs != null ? slugs : List.of();
+        log.debug("Fetching destinations in batch - ids: {}, slugs: {}", idKeys.size(), slugKeys.size());
+        if (idKeys.isEmpty() && slugKeys.isEmpty()) {
+            throw new BadRequestException("ids or slugs must be provided");
+        }
+        if (idKeys.size() + slugKeys.size() > MAX_BATCH_KEYS) {
+            throw new BadRequestException("At most " + MAX_BATCH_KEYS + " ids and slugs can be requested at once");
+        }
+
+        Map<UUID, DestinationDto> byId = cacheBatchLoader.getAll("destination", idKeys, DestinationDto.class,
+                missing -> destinationRepository.findDetailByIdIn(missing).stream()
+                        .collect(Collectors.toMap(Destination::getId, destinationMapper::toDto)));
+        Map<String, DestinationDto> bySlug = cacheBatchLoader.getAll("destination", slugKeys, DestinationDto.class,
+                missing -> destinationRepository.findDetailBySlugIn(missing).stream()
+                        .collect(Collectors.toMap(Destination::getSlug, destinationMapper::toDto)));
+
+        Map<UUID, DestinationDto> items = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        idKeys.stream().distinct().forEach(id -> collectBatchItem(id.toString(), byId.get(id), items, missing));
+        slugKeys.stream().distinct().forEach(slug -> collectBatchItem(slug, bySlug.get(slug), items, missing));
+        return BatchLookupResponse.<DestinationDto>builder()
+                .items(new ArrayList<>(items.values()))
+                .missing(missing)
+                .build();
+    }
+
+    private static void collectBatchItem(String key, DestinationDto destination,
+                                         Map<UUID, DestinationDto> items, List<String> missing) {
+        if (destination == null) {
+            missing.add(key);
+        } else {
+            items.putIfAbsent(destination.getId(), destination);
+        }
+    }
+
+    @Cacheable(value = "featuredDestinations", sync = true)
+    public List<DestinationSummaryDto> getFeaturedDestinations() {
         log.debug("Fetching featured destinations");
-        List<Destination> destinations = destinationRepository.findByIsFeaturedTrueAndIsActiveTrue();
-        return destinationMapper.toDtoList(destinations);
+        return destinationCardRepository.findFeaturedSummaries();
     }
 
-    @Cacheable(value = "topDestinations")
-    public List<DestinationDto> getTopDestinations() {
+    @Cacheable(value = "topDestinations", sync = true)
+    public List<DestinationSummaryDto> getTopDestinations() {
         log.debug("Fetching top destinations");
-        List<Destination> destinations = destinationRepository.findTop6ByIsActiveOrderByRatingDesc(true);
-        return destinationMapper.toDtoList(destinations);
+        return destinationCardRepository.findTopSummaries(PageRequest.of(0, TOP_DESTINATIONS_LIMIT));
+    }
+
+    public List<NearbyDestinationDto> getNearbyDestinations(double latitude, double longitude,
+                                                            double radiusKm, int limit) {
+        log.debug("Fetching destinations within {} km of ({}, {})", radiusKm, latitude, longitude);
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BadRequestException("Coordinates out of range: " + latitude + ", " + longitude);
+        }
+        if (radiusKm <= 0 || limit <= 0) {
+            throw new BadRequestException("radiusKm and limit must be positive");
+        }
+
+        List<GeoNeighbour> neighbours = destinationGeoIndex.nearest(latitude, longitude,
+                Math.min(radiusKm, MAX_NEARBY_RADIUS_KM), Math.min(limit, MAX_NEARBY_LIMIT));
+        if (neighbours.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, DestinationSummaryDto> summaries = destinationCardRepository
+                .findSummariesByIdIn(neighbours.stream().map(GeoNeighbour::id).toList()).stream()
+                .collect(Collectors.toMap(DestinationSummaryDto::getId, Function.identity()));
+        // The index may briefly lag a deactivation; drop ids the database no longer returns
+        return neighbours.stream()
+                .filter(neighbour -> summaries.containsKey(neighbour.id()))
+                .map(neighbour -> NearbyDestinationDto.builder()
+                        .destination(summaries.get(neighbour.id()))
+                        .distanceKm(neighbour.distanceKm())
+                        .build())
+                .toList();
     }
 
     public Page<DestinationDto> searchDestinations(String query, Pageable pageable) {
         log.debug("Searching destinations with query: {}", query);
-        Page<Destination> destinations = destinationRepository.searchDestinations(query, pageable);
+        String tsQuery = TsQueryBuilder.prefixQuery(query);
+        if (tsQuery == null) {
+            return Page.empty(pageable);
+        }
+
+        Sort columnSort = toSearchColumnSort(pageable.getSort());
+        Page<Destination> destinations = columnSort.isSorted()
+                ? destinationRepository.searchDestinations(tsQuery,
+                        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), columnSort))
+                : destinationRepository.searchDestinationsByRank(tsQuery,
+                        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
         return destinations.map(destinationMapper::toDto);
     }
 
-    public Page<DestinationDto> getDestinationsByCategory(String category, Pageable pageable) {
+    public Page<DestinationSummaryDto> getDestinationsByCategory(String category, Pageable pageable) {
         log.debug("Fetching destinations by category: {}", category);
-        Page<Destination> destinations = destinationRepository.findByCategoryAndIsActiveTrue(category, pageable);
-        return destinations.map(destinationMapper::toDto);
+        return destinationCardRepository.findSummariesByCategory(category, pageable);
     }
 
-    public Page<DestinationDto> getDestinationsWithFilters(String category, String country, 
+    public Page<DestinationSummaryDto> getDestinationsWithFilters(String category, String country, 
                                                           int page, int size, String sortBy, String sortDir) {
         log.debug("Fetching destinations with filters - category: {}, country: {}", category, country);
         
-        Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
-        
-        Page<Destination> destinations = destinationRepository.findWithFilters(category, country, pageable);
-        return destinations.map(destinationMapper::toDto);
+        Pageable pageable = PageRequests.of(page, size, sortBy, sortDir, SORTABLE_FIELDS, "name");
+        return destinationCardRepository.findSummariesWithFilters(category, country, pageable);
+    }
+
+    public DestinationFacetsDto getDestinationFacets(FacetQuery query, int page, int size) {
+        log.debug("Fetching destination facets - query: {}, page: {}, size: {}", query, page, size);
+        for (String month : query.selections().getOrDefault(FacetIndex.MONTH, Set.of())) {
+            if (!month.matches("\\d{1,2}") || Integer.parseInt(month) < 1 || Integer.parseInt(month) > 12) {
+                throw new BadRequestException("month must be between 1 and 12: " + month);
+            }
+        }
+        if (isInverted(query.minRating(), query.maxRating()) || isInverted(query.minPrice(), query.maxPrice())) {
+            throw new BadRequestException("Range minimum must not exceed its maximum");
+        }
+
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.max(1, Math.min(size, PageRequests.MAX_SIZE));
+        int offset = (int) Math.min((long) pageNumber * pageSize, Integer.MAX_VALUE);
+        FacetResult result = destinationFacetIndex.search(query, offset, pageSize);
+
+        Map<UUID, DestinationSummaryDto> summaries = result.ids().isEmpty() ? Map.of() : destinationCardRepository
+                .findSummariesByIdIn(result.ids()).stream()
+                .collect(Collectors.toMap(DestinationSummaryDto::getId, Function.identity()));
+        return DestinationFacetsDto.builder()
+                .content(result.ids().stream().map(summaries::get).filter(Objects::nonNull).toList())
+                .page(pageNumber)
+                .size(pageSize)
+                .totalElements(result.total())
+                .totalPages((result.total() + pageSize - 1) / pageSize)
+                .facets(result.facets())
+                .build();
+    }
+
+    private static boolean isInverted(Double min, Double max) {
+        return min != null && max != null && min > max;
+    }
+
+    /**
+     * Search runs as a native query, so entity properties are translated to column names.
+     * Anything that is not an explicit column sort falls back to relevance ranking.
+     */
+    private Sort toSearchColumnSort(Sort sort) {
+        List<Sort.Order> orders = sort.stream()
+                .filter(order -> SEARCH_SORT_COLUMNS.containsKey(order.getProperty()))
+                .map(order -> new Sort.Order(order.getDirection(), SEARCH_SORT_COLUMNS.get(order.getProperty())))
+                .toList();
+        return Sort.by(orders);
     }
 
-    @Cacheable(value = "destinationCategories")
+    @Cacheable(value = "destinationCategories", sync = true)
     public List<String> getAllCategories() {
         log.debug("Fetching all destination categories");
-        return destinationRepository.findAllCategories();
+        return destinationCardRepository.findAllCategories();
     }
 }
\ No newline at end of file
@@ -0,0 +1,191 @@
+package com.travelpro.service;
+
+import com.travelpro.activity.ActivityRecorder;
+import com.travelpro.dto.CursorPage;
+import com.travelpro.dto.DestinationReviewDto;
+import com.travelpro.dto.ReviewRequest;
+import com.travelpro.dto.ReviewStatsDto;
+import com.travelpro.dto.TravelTypeStatsDto;
+import com.travelpro.entity.DestinationReview;
+import com.travelpro.entity.User;
+import com.travelpro.exception.ResourceNotFoundException;
+import com.travelpro.mapper.ReviewMapper;
+import com.travelpro.pagination.CursorCodec;
+import com.travelpro.pagination.KeysetCursor;
+import com.travelpro.pagination.KeysetPager;
+import com.travelpro.repository.DestinationCardRepository;
+import com.travelpro.repository.DestinationRepository;
+import com.travelpro.repository.DestinationReviewRepository;
+import com.travelpro.repository.UserRepository;
+import com.travelpro.repository.projection.ReviewStatsRow;
+import com.travelpro.review.ReviewDelta;
+import com.travelpro.review.ReviewAggregateBuffer;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Review ingestion and reads. Writes touch only {@code destination_reviews}; the destination's rating, review
+ * count and review statistics follow through {@link ReviewAggregateBuffer}, so bursts of reviews on one
+ * destination do not queue on its row lock. Reads page by keyset and take counts and breakdowns from the
+ * pre-aggregated statistics, so neither depends on how many reviews a destination has.
+ */
+@Service
+@Timed(value = "travelpro.service", histogram = true)
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ReviewService {
+
+    public static final String SORT_BY_NEWEST = "newest";
+    public static final String SORT_BY_HELPFUL = "helpful";
+
+    private static final String REVIEW_ENTITY_TYPE = "destination_review";
+    private static final String ACTION_REVIEW_CREATED = "review.created";
+    private static final String ACTION_REVIEW_UPDATED = "review.updated";
+    private static final String ACTION_REVIEW_DELETED = "review.deleted";
+
+    private final DestinationReviewRepository reviewRepository;
+    private final DestinationRepository destinationRepository;
+    private final DestinationCardRepository destinationCardRepository;
+    private final UserRepository userRepository;
+    private final ReviewAggregateBuffer reviewAggregateBuffer;
+    private final ReviewMapper reviewMapper;
+    private final ActivityRecorder activityRecorder;
+
+    public CursorPage<DestinationReviewDto> getReviews(UUID destinationId, String cursor, int size, String sortBy,
+                                                       boolean withTotal) {
+        log.debug("Scrolling reviews of destination {} - sortBy: {}, size: {}", destinationId, sortBy, size);
+        String sort = SORT_BY_HELPFUL.equals(sortBy) ? SORT_BY_HELPFUL : SORT_BY_NEWEST;
+        KeysetCursor position = CursorCodec.decode(cursor, sort);
+        int pageSize = KeysetPager.clampSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<DestinationReview> rows;
+        Function<DestinationReview, KeysetCursor> cursorOf;
+        if (SORT_BY_HELPFUL.equals(sort)) {
+            rows = position == null
+                    ? reviewRepository.findMostHelpful(destinationId, limit)
+                    : reviewRepository.findMostHelpfulAfter(destinationId,
+                            KeysetPager.parseValue(position, Integer::valueOf), position.id(), limit);
+            cursorOf = row -> new KeysetCursor(sort, row.getHelpfulCount().toString(), row.getId());
+        } else {
+            rows = position == null
+                    ? reviewRepository.findNewest(destinationId, limit)
+                    : reviewRepository.findNewestAfter(destinationId,
+                            KeysetPager.parseValue(position, LocalDateTime::parse), position.id(), limit);
+            cursorOf = row -> new KeysetCursor(sort, row.getCreatedAt().toString(), row.getId());
+        }
+
+        return KeysetPager.slice(rows, pageSize, cursorOf, reviewMapper::toDto,
+                withTotal ? () -> reviewRepository.findStats(destinationId)
+                        .map(stats -> stats.getReviewCount().longValue()).orElse(0L) : null);
+    }
+
+    @Cacheable(value = "reviewStats", key = "#destinationId", sync = true)
+    public ReviewStatsDto getReviewStats(UUID destinationId) {
+        log.debug("Fetching review statistics of destination {}", destinationId);
+        ReviewStatsRow stats = reviewRepository.findStats(destinationId).orElse(null);
+        if (stats == null && !destinationCardRepository.existsById(destinationId)) {
+            throw new ResourceNotFoundException("Destination not found with id: " + destinationId);
+        }
+
+        Map<Integer, Integer> histogram = new LinkedHashMap<>();
+        List<Integer> counts = stats != null
+                ? List.of(stats.getRating1(), stats.getRating2(), stats.getRating3(), stats.getRating4(), stats.getRating5())
+                : List.of(0, 0, 0, 0, 0);
+        for (int rating = 1; rating <= ReviewDelta.MAX_RATING; rating++) {
+            histogram.put(rating, counts.get(rating - 1));
+        }
+        List<TravelTypeStatsDto> travelTypes = reviewRepository.findTravelTypeStats(destinationId).stream()
+                .map(row -> TravelTypeStatsDto.builder()
+                        .travelType(row.getTravelType())
+                        .averageRating(average(row.getRatingSum(), row.getReviewCount()))
+                        .reviewCount(row.getReviewCount())
+                        .build())
+                .toList();
+
+        int reviewCount = stats != null ? stats.getReviewCount() : 0;
+        return ReviewStatsDto.builder()
+                .destinationId(destinationId)
+                .averageRating(average(stats != null ? stats.getRatingSum() : 0, reviewCount))
+                .reviewCount(reviewCount)
+                .ratingHistogram(histogram)
+                .travelTypes(travelTypes)
+                .build();
+    }
+
+    /**
+     * Creates the user's review of the destination, or replaces it if they already reviewed it.
+     */
+    @Transactional
+    public DestinationReviewDto saveReview(UUID destinationId, String userEmail, ReviewRequest request) {
+        // Cards only exist for active destinations
+        if (!destinationCardRepository.existsById(destinationId)) {
+            throw new ResourceNotFoundException("Destination not found with id: " + destinationId);
+        }
+        User user = findUser(userEmail);
+
+        DestinationReview review = reviewRepository.findForUpdate(user.getId(), destinationId).orElse(null);
+        String action = review == null ? ACTION_REVIEW_CREATED : ACTION_REVIEW_UPDATED;
+        ReviewDelta delta;
+        if (review == null) {
+            review = DestinationReview.builder()
+                    .user(user)
+                    .destination(destinationRepository.getReferenceById(destinationId))
+                    .build();
+            delta = ReviewDelta.added(request.getRating(), request.getTravelType());
+        } else {
+            delta = ReviewDelta.changed(review.getRating(), review.getTravelType(),
+                    request.getRating(), request.getTravelType());
+        }
+        review.setRating(request.getRating());
+        review.setTitle(request.getTitle());
+        review.setReviewText(request.getReviewText());
+        review.setVisitDate(request.getVisitDate());
+        review.setTravelType(request.getTravelType());
+
+        DestinationReview saved = reviewRepository.save(review);
+        reviewAggregateBuffer.recordAfterCommit(destinationId, delta);
+        activityRecorder.recordActivityAfterCommit(user.getId(), action, REVIEW_ENTITY_TYPE, saved.getId(),
+                Map.of("destinationId", destinationId, "rating", saved.getRating()));
+        log.debug("Saved review {} of destination {}", saved.getId(), destinationId);
+        return reviewMapper.toDto(saved);
+    }
+
+    @Transactional
+    public void deleteReview(UUID destinationId, String userEmail) {
+        User user = findUser(userEmail);
+        DestinationReview review = reviewRepository.findForUpdate(user.getId(), destinationId)
+                .orElseThrow(() -> new ResourceNotFoundException("No review of destination " + destinationId));
+        reviewRepository.delete(review);
+        reviewAggregateBuffer.recordAfterCommit(destinationId, ReviewDelta.removed(review.getRating(), review.getTravelType()));
+        activityRecorder.recordActivityAfterCommit(user.getId(), ACTION_REVIEW_DELETED, REVIEW_ENTITY_TYPE, review.getId(),
+                Map.of("destinationId", destinationId));
+    }
+
+    private static BigDecimal average(long ratingSum, int reviewCount) {
+        return reviewCount > 0
+                ? BigDecimal.valueOf(ratingSum).divide(BigDecimal.valueOf(reviewCount), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+    }
+
+    private User findUser(String email) {
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
+    }
+}
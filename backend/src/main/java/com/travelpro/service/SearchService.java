@@ -0,0 +1,34 @@
+package com.travelpro.service;
+
+import com.travelpro.dto.SearchSuggestionDto;
+import com.travelpro.search.SearchSuggestionIndex;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Search autocomplete. Served from memory only, hence not transactional: a transaction would check out a
+ * connection for nothing.
+ */
+@Service
+@Timed(value = "travelpro.service", histogram = true)
+@RequiredArgsConstructor
+@Slf4j
+public class SearchService {
+
+    private final SearchSuggestionIndex searchSuggestionIndex;
+
+    public List<SearchSuggestionDto> suggest(String query, int limit) {
+        log.debug("Suggesting completions of: {}", query);
+        int clamped = Math.max(1, Math.min(limit, searchSuggestionIndex.getMaxSuggestions()));
+        return searchSuggestionIndex.suggest(query, clamped).stream()
+                .map(suggestion -> SearchSuggestionDto.builder()
+                        .text(suggestion.text())
+                        .type(suggestion.type())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,321 @@
+package com.travelpro.service;
+
+import com.travelpro.activity.ActivityRecorder;
+import com.travelpro.dto.ItineraryActivityRequest;
+import com.travelpro.dto.TripItineraryRequest;
+import com.travelpro.dto.TripPlanDto;
+import com.travelpro.dto.TripPlanRequest;
+import com.travelpro.entity.Attraction;
+import com.travelpro.entity.ItineraryActivity;
+import com.travelpro.entity.TripItinerary;
+import com.travelpro.entity.TripPlan;
+import com.travelpro.entity.User;
+import com.travelpro.exception.BadRequestException;
+import com.travelpro.exception.ResourceNotFoundException;
+import com.travelpro.mapper.TripMapper;
+import com.travelpro.metrics.QueryBudget;
+import com.travelpro.repository.AttractionRepository;
+import com.travelpro.repository.DestinationCardRepository;
+import com.travelpro.repository.DestinationRepository;
+import com.travelpro.repository.TripPlanRepository;
+import com.travelpro.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Trip plans with their days and activities. A plan is always read with a constant number of queries: one
+ * for the plan and its days, one for all activities with their attractions. Saves apply the requested plan
+ * onto the loaded one, so Hibernate only writes rows and columns that changed, and new rows go out in JDBC
+ * batches ({@code hibernate.jdbc.batch_size}).
+ */
+@Service
+@Timed(value = "travelpro.service", histogram = true)
+@Slf4j
+@Transactional(readOnly = true)
+public class TripPlanService {
+
+    private static final String TRIP_ENTITY_TYPE = "trip_plan";
+    private static final String ACTION_TRIP_CREATED = "trip.created";
+    private static final String ACTION_TRIP_UPDATED = "trip.updated";
+    private static final String ACTION_TRIP_DELETED = "trip.deleted";
+
+    private final TripPlanRepository tripPlanRepository;
+    private final DestinationRepository destinationRepository;
+    private final DestinationCardRepository destinationCardRepository;
+    private final AttractionRepository attractionRepository;
+    private final UserRepository userRepository;
+    private final TripMapper tripMapper;
+    private final ActivityRecorder activityRecorder;
+    private final int maxDays;
+    private final int maxActivitiesPerDay;
+
+    public TripPlanService(TripPlanRepository tripPlanRepository,
+                           DestinationRepository destinationRepository,
+                           DestinationCardRepository destinationCardRepository,
+                           AttractionRepository attractionRepository,
+                           UserRepository userRepository,
+                           TripMapper tripMapper,
+                           ActivityRecorder activityRecorder,
+                           @Value("${app.trips.max-days:30}") int maxDays,
+                           @Value("${app.trips.max-activities-per-day:30}") int maxActivitiesPerDay) {
+        this.tripPlanRepository = tripPlanRepository;
+        this.destinationRepository = destinationRepository;
+        this.destinationCardRepository = destinationCardRepository;
+        this.attractionRepository = attractionRepository;
+        this.userRepository = userRepository;
+        this.tripMapper = tripMapper;
+        this.activityRecorder = activityRecorder;
+        this.maxDays = maxDays;
+        this.maxActivitiesPerDay = maxActivitiesPerDay;
+    }
+
+    public List<TripPlanDto> getTripPlans(String userEmail) {
+        log.debug("Fetching trip plans of {}", userEmail);
+        return tripPlanRepository.findByUserEmail(userEmail).stream()
+                .map(tripMapper::toSummaryDto)
+                .toList();
+    }
+
+    /**
+     * Returns the plan if it is public or belongs to {@code userEmail}, which may be {@code null} for
+     * anonymous callers. Other users' private plans are reported as not found.
+     */
+    public TripPlanDto getTripPlan(UUID id, String userEmail) {
+        log.debug("Fetching trip plan {}", id);
+        TripPlan plan = loadPlan(id);
+        if (!Boolean.TRUE.equals(plan.getIsPublic())
+                && (userEmail == null || !isOwner(plan, findUser(userEmail)))) {
+            throw notFound(id);
+        }
+        return tripMapper.toDto(plan);
+    }
+
+    @Transactional
+    @QueryBudget(30)
+    public TripPlanDto createTripPlan(String userEmail, TripPlanRequest request) {
+        validate(request);
+        User user = findUser(userEmail);
+        TripPlan plan = TripPlan.builder().user(user).build();
+        apply(request, plan);
+
+        TripPlan saved = tripPlanRepository.save(plan);
+        activityRecorder.recordActivityAfterCommit(user.getId(), ACTION_TRIP_CREATED, TRIP_ENTITY_TYPE, saved.getId(),
+                Map.of("days", saved.getDays().size()));
+        log.debug("Created trip plan {} with {} days", saved.getId(), saved.getDays().size());
+        return tripMapper.toDto(saved);
+    }
+
+    /**
+     * Replaces the plan with the requested state. Days are matched by day number and activities by id within
+     * their day; unchanged rows are not written, removed ones are deleted and new ones inserted in batches.
+     */
+    @Transactional
+    @QueryBudget(30)
+    public TripPlanDto updateTripPlan(UUID id, String userEmail, TripPlanRequest request) {
+        validate(request);
+        User user = findUser(userEmail);
+        TripPlan plan = loadPlan(id);
+        if (!isOwner(plan, user)) {
+            throw notFound(id);
+        }
+        apply(request, plan);
+
+        // Assigns ids to new days and activities before they are mapped
+        tripPlanRepository.flush();
+        activityRecorder.recordActivityAfterCommit(user.getId(), ACTION_TRIP_UPDATED, TRIP_ENTITY_TYPE, id,
+                Map.of("days", plan.getDays().size()));
+        log.debug("Updated trip plan {}", id);
+        return tripMapper.toDto(plan);
+    }
+
+    @Transactional
+    public void deleteTripPlan(UUID id, String userEmail) {
+        User user = findUser(userEmail);
+        TripPlan plan = tripPlanRepository.findById(id)
+                .filter(candidate -> isOwner(candidate, user))
+                .orElseThrow(() -> notFound(id));
+        // Days and activities go with the plan through ON DELETE CASCADE, without being loaded
+        tripPlanRepository.deleteAllByIdInBatch(List.of(plan.getId()));
+        activityRecorder.recordActivityAfterCommit(user.getId(), ACTION_TRIP_DELETED, TRIP_ENTITY_TYPE, id, null);
+    }
+
+    private TripPlan loadPlan(UUID id) {
+        TripPlan plan = tripPlanRepository.findWithDaysById(id).orElseThrow(() -> notFound(id));
+        if (!plan.getDays().isEmpty()) {
+            tripPlanRepository.findDaysWithActivities(id);
+        }
+        return plan;
+    }
+
+    private void validate(TripPlanRequest request) {
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw new BadRequestException("endDate must not be before startDate");
+        }
+        long length = ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1;
+        if (length > maxDays) {
+            throw new BadRequestException("A trip may last at most " + maxDays + " days");
+        }
+        Set<Integer> dayNumbers = new HashSet<>();
+        for (TripItineraryRequest day : request.getDays()) {
+            if (day.getDayNumber() > length) {
+                throw new BadRequestException("Day " + day.getDayNumber() + " is after the end of the trip");
+            }
+            if (!dayNumbers.add(day.getDayNumber())) {
+                throw new BadRequestException("Day " + day.getDayNumber() + " is listed more than once");
+            }
+            if (day.getActivities().size() > maxActivitiesPerDay) {
+                throw new BadRequestException("A day may have at most " + maxActivitiesPerDay + " activities");
+            }
+        }
+    }
+
+    private void apply(TripPlanRequest request, TripPlan plan) {
+        plan.setTitle(request.getTitle());
+        plan.setStartDate(request.getStartDate());
+        plan.setEndDate(request.getEndDate());
+        plan.setTravelersCount(Objects.requireNonNullElse(request.getTravelersCount(), 1));
+        plan.setBudgetRange(request.getBudgetRange());
+        plan.setAccommodationType(request.getAccommodationType());
+        plan.setTransportMode(request.getTransportMode());
+        plan.setInterests(request.getInterests() != null ? request.getInterests().toArray(String[]::new) : null);
+        plan.setTotalBudget(request.getTotalBudget());
+        plan.setStatus(Objects.requireNonNullElse(request.getStatus(), "draft"));
+        plan.setNotes(request.getNotes());
+        plan.setIsPublic(Boolean.TRUE.equals(request.getIsPublic()));
+        applyDestination(request.getDestinationId(), plan);
+
+        Map<UUID, Attraction> attractions = loadAttractions(request, plan);
+        Map<Integer, TripItinerary> existingDays = plan.getDays().stream()
+                .collect(Collectors.toMap(TripItinerary::getDayNumber, Function.identity()));
+        Set<Integer> requestedDays = new HashSet<>();
+        for (TripItineraryRequest dayRequest : request.getDays()) {
+            requestedDays.add(dayRequest.getDayNumber());
+            TripItinerary day = existingDays.get(dayRequest.getDayNumber());
+            if (day == null) {
+                day = TripItinerary.builder().tripPlan(plan).dayNumber(dayRequest.getDayNumber()).build();
+                plan.getDays().add(day);
+            }
+            applyDay(dayRequest, day, plan, attractions);
+        }
+        plan.getDays().removeIf(day -> !requestedDays.contains(day.getDayNumber()));
+    }
+
+    private void applyDestination(UUID destinationId, TripPlan plan) {
+        UUID current = plan.getDestination() != null ? plan.getDestination().getId() : null;
+        if (Objects.equals(destinationId, current)) {
+            return;
+        }
+        if (destinationId != null && !destinationCardRepository.existsById(destinationId)) {
+            throw new BadRequestException("Unknown destination " + destinationId);
+        }
+        plan.setDestination(destinationId != null ? destinationRepository.getReferenceById(destinationId) : null);
+    }
+
+    private void applyDay(TripItineraryRequest request, TripItinerary day, TripPlan plan,
+                          Map<UUID, Attraction> attractions) {
+        day.setDate(plan.getStartDate().plusDays(request.getDayNumber() - 1L));
+        day.setTitle(request.getTitle());
+        day.setDescription(request.getDescription());
+        day.setTravelTime(request.getTravelTime());
+
+        // Activities only keep their row within the same day; moving one to another day re-creates it, since
+        // orphan removal would otherwise delete it from the day it left
+        Map<UUID, ItineraryActivity> existing = day.getActivities().stream()
+                .collect(Collectors.toMap(ItineraryActivity::getId, Function.identity()));
+        List<ItineraryActivity> activities = new ArrayList<>(request.getActivities().size());
+        BigDecimal totalCost = BigDecimal.ZERO;
+        for (ItineraryActivityRequest activityRequest : request.getActivities()) {
+            ItineraryActivity activity = activityRequest.getId() != null ? existing.remove(activityRequest.getId()) : null;
+            if (activity == null) {
+                activity = ItineraryActivity.builder().itinerary(day).build();
+            }
+            applyActivity(activityRequest, activity, activities.size(), attractions);
+            activities.add(activity);
+            totalCost = totalCost.add(activity.getCost());
+        }
+        day.getActivities().clear();
+        day.getActivities().addAll(activities);
+        setIfChanged(totalCost, day.getTotalCost(), day::setTotalCost);
+    }
+
+    private void applyActivity(ItineraryActivityRequest request, ItineraryActivity activity, int sortOrder,
+                               Map<UUID, Attraction> attractions) {
+        activity.setActivityType(request.getActivityType());
+        activity.setName(request.getName());
+        activity.setDescription(request.getDescription());
+        activity.setStartTime(request.getStartTime());
+        activity.setDuration(request.getDuration());
+        setIfChanged(Objects.requireNonNullElse(request.getCost(), BigDecimal.ZERO), activity.getCost(), activity::setCost);
+        activity.setLocation(request.getLocation());
+        activity.setNotes(request.getNotes());
+        activity.setSortOrder(sortOrder);
+        UUID current = activity.getAttraction() != null ? activity.getAttraction().getId() : null;
+        if (!Objects.equals(request.getAttractionId(), current)) {
+            activity.setAttraction(request.getAttractionId() != null ? attractions.get(request.getAttractionId()) : null);
+        }
+    }
+
+    /**
+     * Loads, in one query, the attractions the request references that the plan does not already.
+     */
+    private Map<UUID, Attraction> loadAttractions(TripPlanRequest request, TripPlan plan) {
+        Map<UUID, Attraction> attractions = new HashMap<>();
+        plan.getDays().stream()
+                .flatMap(day -> day.getActivities().stream())
+                .map(ItineraryActivity::getAttraction)
+                .filter(Objects::nonNull)
+                .forEach(attraction -> attractions.put(attraction.getId(), attraction));
+        Set<UUID> missing = request.getDays().stream()
+                .flatMap(day -> day.getActivities().stream())
+                .map(ItineraryActivityRequest::getAttractionId)
+                .filter(attractionId -> attractionId != null && !attractions.containsKey(attractionId))
+                .collect(Collectors.toSet());
+        if (!missing.isEmpty()) {
+            attractionRepository.findAllById(missing).forEach(attraction -> attractions.put(attraction.getId(), attraction));
+            missing.removeAll(attractions.keySet());
+            if (!missing.isEmpty()) {
+                throw new BadRequestException("Unknown attractions " + missing);
+            }
+        }
+        return attractions;
+    }
+
+    /**
+     * Keeps the stored amount when the new one only differs in scale, e.g. {@code 12} against {@code 12.00}.
+     */
+    private static void setIfChanged(BigDecimal value, BigDecimal current, Consumer<BigDecimal> setter) {
+        if (current == null || value.compareTo(current) != 0) {
+            setter.accept(value);
+        }
+    }
+
+    private static boolean isOwner(TripPlan plan, User user) {
+        return plan.getUser() != null && plan.getUser().getId().equals(user.getId());
+    }
+
+    private static ResourceNotFoundException notFound(UUID id) {
+        return new ResourceNotFoundException("Trip plan not found with id: " + id);
+    }
+
+    private User findUser(String email) {
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
+    }
+}
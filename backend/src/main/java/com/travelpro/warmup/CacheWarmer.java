@@ -0,0 +1,168 @@
+package com.travelpro.warmup;
+
+import com.travelpro.geo.DestinationGeoIndex;
+import com.travelpro.pagination.PageRequests;
+import com.travelpro.search.SearchSuggestionIndex;
+import com.travelpro.service.BlogService;
+import com.travelpro.service.DestinationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Populates the homepage caches and the first pages of the common listings once the application
+ * is up, with bounded concurrency so the warm-up itself does not stampede Postgres. Readiness is
+ * held back by {@link CacheWarmupHealthIndicator} until it completes or times out.
+ *
+ * <p>Goes through the service beans, so entries land under the same keys as real requests and a
+ * pod joining a warm cluster only fills its local tier from Redis.
+ */
+@Slf4j
+@Component
+public class CacheWarmer {
+
+    private final DestinationService destinationService;
+    private final BlogService blogService;
+    private final DestinationGeoIndex destinationGeoIndex;
+    private final SearchSuggestionIndex searchSuggestionIndex;
+    private final boolean enabled;
+    private final int concurrency;
+    private final Duration timeout;
+    private final int listingPages;
+    private final List<Integer> listingPageSizes;
+
+    private volatile WarmupState state = WarmupState.PENDING;
+    private volatile int failedTasks;
+
+    public CacheWarmer(DestinationService destinationService,
+                       BlogService blogService,
+                       DestinationGeoIndex destinationGeoIndex,
+                       SearchSuggestionIndex searchSuggestionIndex,
+                       @Value("${app.cache.warmup.enabled:true}") boolean enabled,
+                       @Value("${app.cache.warmup.concurrency:4}") int concurrency,
+                       @Value("${app.cache.warmup.timeout:60s}") Duration timeout,
+                       @Value("${app.cache.warmup.listing-pages:3}") int listingPages,
+                       @Value("${app.cache.warmup.listing-page-sizes:10,12}") List<Integer> listingPageSizes) {
+        this.destinationService = destinationService;
+        this.blogService = blogService;
+        this.destinationGeoIndex = destinationGeoIndex;
+        this.searchSuggestionIndex = searchSuggestionIndex;
+        this.enabled = enabled;
+        this.concurrency = concurrency;
+        this.timeout = timeout;
+        this.listingPages = listingPages;
+        this.listingPageSizes = listingPageSizes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            state = WarmupState.SKIPPED;
+            return;
+        }
+        Thread coordinator = new Thread(this::warmUp, "cache-warmup");
+        coordinator.setDaemon(true);
+        coordinator.start();
+    }
+
+    void warmUp() {
+        state = WarmupState.RUNNING;
+        long start = System.nanoTime();
+        Map<String, Runnable> tasks = tasks();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Map<String, Future<?>> futures = new LinkedHashMap<>();
+        tasks.forEach((name, task) -> futures.put(name, executor.submit(task)));
+        executor.shutdown();
+
+        boolean finished;
+        try {
+            finished = executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            finished = false;
+        }
+        if (!finished) {
+            executor.shutdownNow();
+        }
+
+        int failed = 0;
+        for (Map.Entry<String, Future<?>> entry : futures.entrySet()) {
+            Future<?> future = entry.getValue();
+            if (!future.isDone() || future.isCancelled()) {
+                failed++;
+                continue;
+            }
+            try {
+                future.get();
+            } catch (ExecutionException ex) {
+                failed++;
+                log.warn("Cache warm-up task {} failed", entry.getKey(), ex.getCause());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        failedTasks = failed;
+        state = finished ? WarmupState.COMPLETED : WarmupState.TIMED_OUT;
+        log.info("Cache warm-up {} in {} ms: {} tasks, {} failed", state.name().toLowerCase().replace('_', ' '),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), tasks.size(), failed);
+    }
+
+    private Map<String, Runnable> tasks() {
+        Map<String, Runnable> tasks = new LinkedHashMap<>();
+        tasks.put("featuredDestinations", destinationService::getFeaturedDestinations);
+        tasks.put("topDestinations", destinationService::getTopDestinations);
+        tasks.put("destinationCategories", destinationService::getAllCategories);
+        tasks.put("featuredBlogPosts", blogService::getFeaturedBlogPosts);
+        tasks.put("blogCategories", blogService::getAllCategories);
+        tasks.put("destinationGeoIndex", destinationGeoIndex::rebuild);
+        tasks.put("searchSuggestionIndex", searchSuggestionIndex::rebuild);
+
+        // Same defaults and normalization as the listing endpoints, so the keys match real requests
+        for (int size : listingPageSizes) {
+            for (int page = 0; page < listingPages; page++) {
+                int pageNumber = page;
+                tasks.put("destinations:p" + page + ":s" + size, () -> destinationService.getAllDestinations(
+                        PageRequests.of(pageNumber, size, "name", "asc", DestinationService.SORTABLE_FIELDS, "name")));
+                tasks.put("blogPosts:p" + page + ":s" + size, () -> blogService.getAllBlogPosts(
+                        PageRequests.of(pageNumber, size, "publishedAt", "desc", BlogService.SORTABLE_FIELDS, "publishedAt")));
+            }
+        }
+        return tasks;
+    }
+
+    public WarmupState getState() {
+        return state;
+    }
+
+    public int getFailedTasks() {
+        return failedTasks;
+    }
+
+    public enum WarmupState {
+        PENDING, RUNNING, COMPLETED, TIMED_OUT, SKIPPED;
+
+        public boolean isFinished() {
+            return this == COMPLETED || this == TIMED_OUT || this == SKIPPED;
+        }
+    }
+}
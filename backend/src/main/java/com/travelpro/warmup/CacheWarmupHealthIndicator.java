@@ -0,0 +1,27 @@
+package com.travelpro.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Part of the readiness group: the load balancer routes to this pod only once cache warm-up has
+ * finished. A timed-out warm-up still reports UP, so a slow database never keeps a pod out forever.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheWarmupHealthIndicator implements HealthIndicator {
+
+    private final CacheWarmer cacheWarmer;
+
+    @Override
+    public Health health() {
+        CacheWarmer.WarmupState state = cacheWarmer.getState();
+        Health.Builder builder = state.isFinished() ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("state", state)
+                .withDetail("failedTasks", cacheWarmer.getFailedTasks())
+                .build();
+    }
+}
@@ -0,0 +1,8 @@
+package com.travelpro.web;
+
+/**
+ * Serialized body of a public GET response together with its strong ETag. {@code gzipBody} is
+ * compressed once when the entry is created and is {@code null} when compression does not pay off.
+ */
+public record CachedResponse(String contentType, String etag, byte[] body, byte[] gzipBody) {
+}
@@ -0,0 +1,211 @@
+package com.travelpro.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * HTTP-level cache for the public read endpoints. Successful JSON responses are stored as bytes,
+ * uncompressed and gzip-compressed, keyed by path and canonical parameters (see {@link ResponseCacheKeys});
+ * requests with other parameters or deep pages pass through. Hits are written straight from the cache
+ * without reaching a controller, and a matching {@code If-None-Match} is answered with 304.
+ *
+ * <p>Entries live in the {@code destinationResponses} and {@code blogResponses} caches, which are
+ * cleared with the data they render (see {@code CacheChange}). Runs after the security filter chain
+ * so that CORS headers are still applied to cached responses.
+ */
+@Slf4j
+@Component
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Map<String, String> CACHES_BY_PREFIX = Map.of(
+            "/destinations", "destinationResponses",
+            "/blog", "blogResponses");
+
+    private static final int MIN_COMPRESSIBLE_BYTES = 512;
+
+    private final CacheManager cacheManager;
+    private final String cacheControl;
+    private final int maxBodyBytes;
+    private final List<String> excludedPaths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public ResponseCacheFilter(CacheManager cacheManager,
+                               @Value("${app.http-cache.max-age:60s}") Duration maxAge,
+                               @Value("${app.http-cache.max-body-bytes:1048576}") int maxBodyBytes,
+                               @Value("${app.http-cache.excluded-paths:/destinations/nearby,/destinations/facets,/destinations/*/reviews}") List<String> excludedPaths) {
+        this.cacheManager = cacheManager;
+        this.cacheControl = "public, max-age=" + maxAge.toSeconds();
+        this.maxBodyBytes = maxBodyBytes;
+        this.excludedPaths = excludedPaths;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return true;
+        }
+        String path = pathWithinApplication(request);
+        return cacheNameFor(path) == null || excludedPaths.stream().anyMatch(pattern -> isExcluded(pattern, path));
+    }
+
+    /**
+     * Excluded paths are Ant patterns that also cover everything below them.
+     */
+    private boolean isExcluded(String pattern, String path) {
+        return pathMatcher.match(pattern, path) || pathMatcher.match(pattern + "/**", path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = pathWithinApplication(request);
+        Cache cache = cacheManager.getCache(cacheNameFor(path));
+        String key = ResponseCacheKeys.of(path, request);
+        if (cache == null || key == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CachedResponse cached = cache.get(key, CachedResponse.class);
+        if (cached != null) {
+            write(cached, request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        byte[] body = wrapper.getContentAsByteArray();
+        String contentType = wrapper.getContentType();
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || contentType == null || !contentType.contains("json")
+                || body.length > maxBodyBytes || wrapper.containsHeader(HttpHeaders.SET_COOKIE)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        CachedResponse created = new CachedResponse(contentType, etag(body), body, gzip(body));
+        cache.put(key, created);
+        wrapper.resetBuffer();
+        write(created, request, response);
+    }
+
+    private void write(CachedResponse cached, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setHeader(HttpHeaders.ETAG, cached.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), cached.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = cached.body();
+        if (cached.gzipBody() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            body = cached.gzipBody();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        response.setContentLength(body.length);
+        if (!"HEAD".equals(request.getMethod())) {
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static String cacheNameFor(String path) {
+        return CACHES_BY_PREFIX.entrySet().stream()
+                .filter(entry -> path.equals(entry.getKey()) || path.startsWith(entry.getKey() + "/"))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeak(tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+            boolean refused = Arrays.stream(parts).skip(1)
+                    .map(String::trim)
+                    .anyMatch(param -> param.matches("q=0(\\.0{0,3})?"));
+            if (!refused) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        if (body.length < MIN_COMPRESSIBLE_BYTES) {
+            return null;
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException ex) {
+            log.warn("Could not compress cached response", ex);
+            return null;
+        }
+        byte[] result = compressed.toByteArray();
+        return result.length < body.length ? result : null;
+    }
+}
@@ -0,0 +1,121 @@
+package com.travelpro.web;
+
+import com.travelpro.cache.CacheKeys;
+import com.travelpro.service.BlogService;
+import com.travelpro.service.DestinationService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Canonical {@link ResponseCacheFilter} keys. Each cached route declares the parameters it accepts; a request
+ * to any other route, with any other parameter, a repeated one, or a page outside {@link CacheKeys#isCacheable}
+ * is not cached, so callers cannot grow the cache with cache-busters, free-text values or deep pages. Paging and sorting are keyed like the
+ * service caches, defaults included, so {@code /destinations} and {@code /destinations?page=0&size=10} share
+ * an entry.
+ */
+final class ResponseCacheKeys {
+
+    private static final Set<String> PAGING_PARAMETERS = Set.of("page", "size");
+    private static final Set<String> SORT_PARAMETERS = Set.of("sortBy", "sortDir");
+    private static final int DEFAULT_PAGE_SIZE = 10;
+
+    // First match wins, so literal segments come before the {variable} routes they would also match. Only routes
+    // whose parameters are bounded are listed: search text, free-text filters and category paths answer any value
+    // with 200, so each distinct value would become an entry. Unknown slugs and ids answer 404 and are not stored.
+    private static final List<Route> ROUTES = List.of(
+            Route.plain("/destinations/featured"),
+            Route.plain("/destinations/top"),
+            Route.plain("/destinations/categories"),
+            Route.plain("/destinations/slug/{slug}"),
+            Route.plain("/destinations/{id}"),
+            Route.paged("/destinations", DestinationService.SORTABLE_FIELDS, "name", Sort.Direction.ASC),
+            Route.plain("/blog/posts/featured"),
+            Route.plain("/blog/posts/{slug}"),
+            Route.paged("/blog/posts", BlogService.SORTABLE_FIELDS, "publishedAt", Sort.Direction.DESC),
+            Route.plain("/blog/categories"),
+            Route.plain("/blog/categories/{slug}"));
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private ResponseCacheKeys() {
+    }
+
+    /**
+     * @return the key of the request's response, or {@code null} if the response must not be cached
+     */
+    static String of(String path, HttpServletRequest request) {
+        Route route = ROUTES.stream()
+                .filter(candidate -> PATH_MATCHER.match(candidate.pattern(), path))
+                .findFirst()
+                .orElse(null);
+        if (route == null) {
+            return null;
+        }
+        Map<String, String> parameters = new TreeMap<>();
+        for (Map.Entry<String, String[]> entry : request.getParameterMap().entrySet()) {
+            if (!route.accepts(entry.getKey()) || entry.getValue().length != 1) {
+                return null;
+            }
+            parameters.put(entry.getKey(), entry.getValue()[0]);
+        }
+        if (!route.paged()) {
+            return path;
+        }
+
+        Pageable pageable = pageable(route, parameters);
+        if (pageable == null || !CacheKeys.isCacheable(pageable)) {
+            return null;
+        }
+        return path + "?" + CacheKeys.page(pageable);
+    }
+
+    private static Pageable pageable(Route route, Map<String, String> parameters) {
+        int page;
+        int size;
+        try {
+            page = Integer.parseInt(parameters.getOrDefault("page", "0"));
+            size = Integer.parseInt(parameters.getOrDefault("size", String.valueOf(DEFAULT_PAGE_SIZE)));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+        if (page < 0 || size < 1) {
+            return null;
+        }
+        String property = parameters.getOrDefault("sortBy", route.defaultSort());
+        if (!route.sorts().contains(property)) {
+            return null;
+        }
+        Optional<Sort.Direction> direction = parameters.containsKey("sortDir")
+                ? Sort.Direction.fromOptionalString(parameters.get("sortDir"))
+                : Optional.of(route.defaultDirection());
+        return direction.map(dir -> PageRequest.of(page, size, Sort.by(dir, property))).orElse(null);
+    }
+
+    /**
+     * @param sorts accepted {@code sortBy} values of a paged route
+     */
+    private record Route(String pattern, boolean paged, Set<String> sorts, String defaultSort,
+                         Sort.Direction defaultDirection) {
+
+        static Route plain(String pattern) {
+            return new Route(pattern, false, Set.of(), null, null);
+        }
+
+        static Route paged(String pattern, Set<String> sorts, String defaultSort, Sort.Direction defaultDirection) {
+            return new Route(pattern, true, sorts, defaultSort, defaultDirection);
+        }
+
+        boolean accepts(String parameter) {
+            return paged && (PAGING_PARAMETERS.contains(parameter) || SORT_PARAMETERS.contains(parameter));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.travelpro.activity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventPipelineTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+    private final CountDownLatch writerBlocked = new CountDownLatch(1);
+    private final CountDownLatch releaseWriter = new CountDownLatch(1);
+    private EventPipeline<Integer> pipeline;
+
+    @AfterEach
+    void tearDown() {
+        releaseWriter.countDown();
+        pipeline.close(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void dropsAndCountsEventsWhileBufferIsFullThenWritesTheRestInOneBatch() throws Exception {
+        pipeline = new EventPipeline<>("test", 3, 100, this::blockingWrite, meterRegistry);
+
+        assertThat(pipeline.offer(0)).isTrue();
+        assertThat(writerBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int event = 1; event <= 3; event++) {
+            assertThat(pipeline.offer(event)).isTrue();
+        }
+        assertThat(pipeline.offer(4)).isFalse();
+        assertThat(meterRegistry.counter("activity.events.dropped", "pipeline", "test").count()).isEqualTo(1);
+
+        releaseWriter.countDown();
+        pipeline.close(Duration.ofSeconds(5));
+
+        assertThat(batches).containsExactly(List.of(0), List.of(1, 2, 3));
+        assertThat(meterRegistry.counter("activity.events.written", "pipeline", "test").count()).isEqualTo(4);
+    }
+
+    @Test
+    void failedBatchIsDroppedAndWriterCarriesOn() throws Exception {
+        CountDownLatch secondBatch = new CountDownLatch(1);
+        pipeline = new EventPipeline<>("test", 10, 100, batch -> {
+            if (batch.contains(0)) {
+                throw new IllegalStateException("database down");
+            }
+            batches.add(List.copyOf(batch));
+            secondBatch.countDown();
+        }, meterRegistry);
+
+        pipeline.offer(0);
+        waitUntilBuffered(0);
+        pipeline.offer(1);
+
+        assertThat(secondBatch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches).containsExactly(List.of(1));
+        assertThat(meterRegistry.counter("activity.events.write.failures", "pipeline", "test").count()).isEqualTo(1);
+    }
+
+    private void blockingWrite(List<Integer> batch) {
+        batches.add(new ArrayList<>(batch));
+        writerBlocked.countDown();
+        try {
+            releaseWriter.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void waitUntilBuffered(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("activity.events.buffered").gauge().value() > size && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.travelpro.bulkhead;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkheadDataSourceTests {
+
+    @Test
+    void rejectsCheckoutsBeyondPermitsAndReleasesOnClose() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection physical = mock(Connection.class);
+        when(target.getConnection()).thenReturn(physical);
+        Bulkhead bulkhead = new Bulkhead("database", 1, Duration.ofMillis(10));
+        BulkheadDataSource dataSource = new BulkheadDataSource(target, bulkhead);
+
+        Connection first = dataSource.getConnection();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(BulkheadFullException.class);
+        assertThat(bulkhead.getRejections()).isEqualTo(1);
+
+        first.close();
+        first.close();
+        assertThat(bulkhead.getAvailable()).isEqualTo(1);
+        verify(physical, times(1)).close();
+
+        dataSource.getConnection().close();
+        assertThat(bulkhead.getAvailable()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,97 @@
+package com.travelpro.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.travelpro.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CacheBatchLoaderTests {
+
+    private final GenericJackson2JsonRedisSerializer serializer = CacheConfig.redisValueSerializer();
+    private final RedisConnection connection = mock(RedisConnection.class);
+    private final RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+
+    private TwoLevelCache cache;
+    private CacheBatchLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+
+        cache = new TwoLevelCache("destination", Caffeine.newBuilder().<String, TwoLevelCache.LocalEntry>build(),
+                new ConcurrentMapCache("destination"), mock(CacheInvalidationPublisher.class));
+        CacheManager cacheManager = mock(CacheManager.class);
+        when(cacheManager.getCache("destination")).thenReturn(cache);
+        loader = new CacheBatchLoader(cacheManager, connectionFactory, serializer,
+                Map.of("destination", Duration.ofHours(12)), Duration.ofMinutes(10));
+    }
+
+    @Test
+    void resolvesLocalThenRedisThenOneLoadAndBackfillsMisses() {
+        cache.putLocal("goa", "Goa");
+        when(stringCommands.mGet(any(byte[][].class))).thenReturn(Arrays.asList(
+                serializer.serialize("Kerala"), serializer.serialize(NullValue.INSTANCE), null, null));
+        List<Collection<String>> loads = new ArrayList<>();
+
+        Map<String, String> result = loader.getAll("destination", List.of("goa", "kerala", "gone", "leh", "nowhere", "goa"),
+                String.class, missing -> {
+                    loads.add(List.copyOf(missing));
+                    return Map.of("leh", "Leh");
+                });
+
+        assertThat(result).containsExactly(Map.entry("goa", "Goa"), Map.entry("kerala", "Kerala"), Map.entry("leh", "Leh"));
+        verify(stringCommands).mGet(key("kerala"), key("gone"), key("leh"), key("nowhere"));
+        assertThat(loads).containsExactly(List.of("leh", "nowhere"));
+
+        var pipeline = inOrder(connection, stringCommands);
+        pipeline.verify(connection).openPipeline();
+        pipeline.verify(stringCommands).set(eq(key("leh")), any(), any(), eq(RedisStringCommands.SetOption.upsert()));
+        pipeline.verify(connection).closePipeline();
+        verify(stringCommands, times(1)).set(any(), any(), any(), any());
+
+        // Redis hits and backfilled values are now served from the local tier
+        assertThat(cache.getLocalCache().getIfPresent("kerala").get()).isEqualTo("Kerala");
+        assertThat(cache.getLocalCache().getIfPresent("leh").get()).isEqualTo("Leh");
+        assertThat(cache.getRemoteHits()).isEqualTo(2);
+    }
+
+    @Test
+    void redisFailureFallsBackToLoader() {
+        when(stringCommands.mGet(any(byte[][].class))).thenThrow(new IllegalStateException("connection refused"));
+
+        Map<String, String> result = loader.getAll("destination", List.of("goa"), String.class,
+                missing -> Map.of("goa", "Goa"));
+
+        assertThat(result).containsExactly(Map.entry("goa", "Goa"));
+    }
+
+    private static byte[] key(String key) {
+        return ("destination::" + key).getBytes(StandardCharsets.UTF_8);
+    }
+}
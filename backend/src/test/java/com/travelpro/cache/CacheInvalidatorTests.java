@@ -0,0 +1,83 @@
+package com.travelpro.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CacheInvalidatorTests {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private CacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager();
+        invalidator = new CacheInvalidator(cacheManager);
+    }
+
+    @Test
+    void ratingChangeEvictsDetailAndRankingsButKeepsCategories() {
+        UUID id = UUID.randomUUID();
+        cacheManager.getCache("destination").put(id, "by id");
+        cacheManager.getCache("destination").put("goa", "by slug");
+        cacheManager.getCache("destination").put("kerala", "other");
+        cacheManager.getCache("topDestinations").put("top", List.of());
+        cacheManager.getCache("destinationCategories").put("all", List.of("beach"));
+
+        invalidator.invalidate(EntityChangedEvent.of(CacheChange.DESTINATION_RATING, id, "goa"));
+
+        assertThat(cacheManager.getCache("destination").get(id)).isNull();
+        assertThat(cacheManager.getCache("destination").get("goa")).isNull();
+        assertThat(cacheManager.getCache("destination").get("kerala")).isNotNull();
+        assertThat(cacheManager.getCache("topDestinations").get("top")).isNull();
+        assertThat(cacheManager.getCache("destinationCategories").get("all")).isNotNull();
+    }
+
+    @Test
+    void bulkInvalidationClearsEachListingCacheOnce() {
+        CacheManager countingManager = mock(CacheManager.class);
+        Cache destination = mock(Cache.class);
+        Cache topDestinations = mock(Cache.class);
+        when(countingManager.getCache(anyString())).thenReturn(mock(Cache.class));
+        when(countingManager.getCache("destination")).thenReturn(destination);
+        when(countingManager.getCache("topDestinations")).thenReturn(topDestinations);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        new CacheInvalidator(countingManager).invalidateAll(List.of(
+                EntityChangedEvent.of(CacheChange.DESTINATION_RATING, first, "goa"),
+                EntityChangedEvent.of(CacheChange.DESTINATION_RATING, second, "kerala"),
+                EntityChangedEvent.of(CacheChange.REVIEW_STATS, first)));
+
+        verify(destination).evict(first);
+        verify(destination).evict("goa");
+        verify(destination).evict(second);
+        verify(destination).evict("kerala");
+        verify(destination, never()).clear();
+        verify(topDestinations, times(1)).clear();
+    }
+
+    @Test
+    void renamedBlogPostEvictsOldAndNewSlug() {
+        cacheManager.getCache("blogPost").put("old-slug", "post");
+        cacheManager.getCache("blogPost").put("new-slug", "post");
+
+        invalidator.invalidate(EntityChangedEvent.of(CacheChange.BLOG_POST, UUID.randomUUID(), "new-slug", "old-slug"));
+
+        assertThat(cacheManager.getCache("blogPost").get("old-slug")).isNull();
+        assertThat(cacheManager.getCache("blogPost").get("new-slug")).isNull();
+    }
+}
@@ -0,0 +1,113 @@
+package com.travelpro.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class TwoLevelCacheTests {
+
+    private ConcurrentMapCache remoteCache;
+    private CacheInvalidationPublisher publisher;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remoteCache = new ConcurrentMapCache("destination");
+        publisher = mock(CacheInvalidationPublisher.class);
+        com.github.benmanes.caffeine.cache.Cache<String, TwoLevelCache.LocalEntry> localCache = Caffeine.newBuilder()
+                .maximumSize(100)
+                .build();
+        cache = new TwoLevelCache("destination", localCache, remoteCache, publisher);
+    }
+
+    @Test
+    void remoteHitPopulatesLocalTier() {
+        remoteCache.put("goa", "Goa");
+
+        assertThat(cache.get("goa").get()).isEqualTo("Goa");
+        remoteCache.evict("goa");
+        assertThat(cache.get("goa").get()).isEqualTo("Goa");
+
+        assertThat(cache.getRemoteHits()).isEqualTo(1);
+        assertThat(cache.getLocalHits()).isEqualTo(1);
+    }
+
+    @Test
+    void evictClearsBothTiersAndBroadcasts() {
+        remoteCache.put("goa", "Goa");
+        cache.get("goa");
+
+        cache.evict("goa");
+
+        assertThat(cache.get("goa")).isNull();
+        assertThat(remoteCache.get("goa")).isNull();
+        verify(publisher).publishEvict("destination", "goa");
+    }
+
+    @Test
+    void remoteInvalidationOnlyTouchesLocalTier() {
+        cache.put("goa", "Goa");
+
+        cache.evictLocal("goa");
+
+        assertThat(cache.getLocalCache().getIfPresent("goa")).isNull();
+        assertThat(remoteCache.get("goa").get()).isEqualTo("Goa");
+    }
+
+    @Test
+    void concurrentMissesLoadOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> cache.get("featured", () -> {
+                    loads.incrementAndGet();
+                    release.await();
+                    return "value";
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo("value");
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(remoteCache.get("featured").get()).isEqualTo("value");
+    }
+
+    @Test
+    void entryNearExpiryIsRefreshedByOneCaller() {
+        com.github.benmanes.caffeine.cache.Cache<String, TwoLevelCache.LocalEntry> localCache = Caffeine.newBuilder()
+                .maximumSize(100)
+                .build();
+        TwoLevelCache refreshing = new TwoLevelCache("topDestinations", localCache, remoteCache, publisher,
+                Duration.ofMillis(100), Duration.ofMillis(100), key -> 50L);
+        remoteCache.put("top", "stale");
+
+        String value = refreshing.get("top", () -> "fresh");
+
+        assertThat(value).isEqualTo("fresh");
+        assertThat(remoteCache.get("top").get()).isEqualTo("fresh");
+        assertThat(refreshing.getRefreshes()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,176 @@
+package com.travelpro.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaRoutingTests {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replica1Connection = mock(Connection.class);
+    private final Connection replica2Connection = mock(Connection.class);
+
+    @AfterEach
+    void clearTransaction() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        ReadYourWrites.end();
+    }
+
+    @Test
+    void spreadsReadOnlyTransactionsOverReplicasAndPinsToThePrimaryAfterAWrite() throws SQLException {
+        ReadReplicaRoutingDataSource routing = routing(dataSource(replica1Connection), dataSource(replica2Connection));
+        AtomicInteger writes = new AtomicInteger();
+        ReadYourWrites.begin(false, writes::incrementAndGet);
+
+        inTransaction(true);
+        List<Connection> reads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            reads.add(routing.getConnection());
+        }
+        assertThat(reads).containsExactly(replica1Connection, replica2Connection, replica1Connection, replica2Connection);
+
+        inTransaction(false);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        inTransaction(true);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(writes).hasValue(1);
+    }
+
+    @Test
+    void cachePopulatingReadsUseThePrimary() throws SQLException {
+        ReadReplicaRoutingDataSource routing = routing(dataSource(replica1Connection));
+        AspectJProxyFactory factory = new AspectJProxyFactory(new CachedLoader(routing));
+        factory.addAspect(new ReadFromPrimaryAspect());
+        CachedLoader loader = factory.getProxy();
+        inTransaction(true);
+
+        assertThat(loader.cached()).isSameAs(primaryConnection);
+        assertThat(loader.batch()).isSameAs(primaryConnection);
+        assertThat(loader.uncached()).isSameAs(replica1Connection);
+        assertThat(routing.getConnection()).isSameAs(replica1Connection);
+    }
+
+    @Test
+    void skipsFailingReplicasAndFallsBackToThePrimary() throws SQLException {
+        DataSource failing = mock(DataSource.class);
+        when(failing.getConnection()).thenThrow(new SQLTransientConnectionException("timeout"));
+        ReadReplicaRoutingDataSource routing = routing(failing, dataSource(replica2Connection));
+        inTransaction(true);
+
+        assertThat(routing.getConnection()).isSameAs(replica2Connection);
+        assertThat(routing.getReplicas().get(0).isHealthy()).isFalse();
+        assertThat(routing.getConnection()).isSameAs(replica2Connection);
+
+        routing.getReplicas().get(1).markDown("test");
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.getFallbacks()).isEqualTo(1);
+    }
+
+    @Test
+    void healthCheckTakesLaggingReplicasOutUntilTheyCatchUp() throws SQLException {
+        ReadReplicaRoutingDataSource routing = routing(dataSource(replica1Connection));
+        when(replica1Connection.isValid(anyInt())).thenReturn(true);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(replica1Connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(45.0, 0.0);
+
+        routing.checkHealth();
+        assertThat(routing.getReplicas().get(0).isHealthy()).isFalse();
+        routing.checkHealth();
+        assertThat(routing.getReplicas().get(0).isHealthy()).isTrue();
+    }
+
+    @Test
+    void stickyCookiePinsReadsOnlyWithinTheWindow() throws Exception {
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(100_000), ZoneOffset.UTC);
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5), clock);
+
+        assertThat(pinnedDuring(filter, 103_000)).isTrue();
+        assertThat(pinnedDuring(filter, 99_000)).isFalse();
+        assertThat(pinnedDuring(filter, 900_000)).isFalse();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> ReadYourWrites.recordWrite());
+        assertThat(response.getCookie(ReadYourWritesFilter.COOKIE_NAME).getValue()).isEqualTo("105000");
+    }
+
+    private boolean pinnedDuring(ReadYourWritesFilter filter, long pinnedUntil) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, String.valueOf(pinnedUntil)));
+        boolean[] pinned = new boolean[1];
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> pinned[0] = ReadYourWrites.isPinned());
+        return pinned[0];
+    }
+
+    private ReadReplicaRoutingDataSource routing(DataSource... replicas) throws SQLException {
+        List<ReplicaPool> pools = new ArrayList<>();
+        for (int i = 0; i < replicas.length; i++) {
+            pools.add(new ReplicaPool("replica-" + (i + 1), replicas[i]));
+        }
+        return new ReadReplicaRoutingDataSource(dataSource(primaryConnection), pools, Duration.ofSeconds(30));
+    }
+
+    private static DataSource dataSource(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    static class CachedLoader {
+
+        private final DataSource dataSource;
+
+        CachedLoader(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Cacheable("test")
+        public Connection cached() throws SQLException {
+            return dataSource.getConnection();
+        }
+
+        @ReadFromPrimary
+        public Connection batch() throws SQLException {
+            return dataSource.getConnection();
+        }
+
+        public Connection uncached() throws SQLException {
+            return dataSource.getConnection();
+        }
+    }
+
+    private static void inTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
@@ -0,0 +1,65 @@
+package com.travelpro.facet;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FacetIndexTests {
+
+    private static final double[] PRICE_BOUNDS = {2000, 5000};
+
+    private final FacetDocument goa = document("Beach", "India", "Easy", 4.6, 3500.0, Set.of(11, 12, 1));
+    private final FacetDocument manali = document("Mountain", "India", "Moderate", 4.2, 1800.0, Set.of(5, 6));
+    private final FacetDocument bali = document("Beach", "Indonesia", "Easy", 3.8, 6000.0, Set.of(6, 7));
+    private final FacetDocument leh = document("Mountain", "India", "Difficult", null, null, Set.of(6));
+
+    private final FacetIndex index = FacetIndex.build(List.of(goa, manali, bali, leh), PRICE_BOUNDS);
+
+    @Test
+    void filtersAndCountsEachFacetWithoutItsOwnFilter() {
+        FacetResult result = index.search(new FacetQuery(
+                Map.of(FacetIndex.CATEGORY, Set.of("Beach"), FacetIndex.COUNTRY, Set.of("India")),
+                null, null, null, null), 0, 10);
+
+        assertThat(result.ids()).containsExactly(goa.id());
+        assertThat(result.total()).isEqualTo(1);
+        // Categories are counted among Indian destinations, countries among beaches
+        assertThat(counts(result, FacetIndex.CATEGORY)).containsEntry("Beach", 1).containsEntry("Mountain", 2);
+        assertThat(counts(result, FacetIndex.COUNTRY)).containsEntry("India", 1).containsEntry("Indonesia", 1);
+        assertThat(counts(result, FacetIndex.PRICE)).containsEntry("2000-5000", 1).containsEntry("0-2000", 0);
+    }
+
+    @Test
+    void rangeFiltersSkipMissingValuesAndMonthsAreOred() {
+        FacetResult result = index.search(new FacetQuery(
+                Map.of(FacetIndex.MONTH, Set.of("6", "12")), 4.0, null, null, null), 0, 10);
+
+        assertThat(result.ids()).containsExactly(goa.id(), manali.id());
+        assertThat(counts(result, FacetIndex.RATING)).containsEntry("4.5+", 1).containsEntry("3.5-4", 1);
+        assertThat(counts(result, FacetIndex.MONTH)).containsEntry("6", 1).containsEntry("1", 1);
+    }
+
+    @Test
+    void pagesThroughMatchesInDocumentOrder() {
+        FacetResult result = index.search(FacetQuery.all(), 1, 2);
+
+        assertThat(result.ids()).containsExactly(manali.id(), bali.id());
+        assertThat(result.total()).isEqualTo(4);
+    }
+
+    private static Map<String, Integer> counts(FacetResult result, String facet) {
+        return result.facets().get(facet).stream()
+                .collect(Collectors.toMap(FacetCount::value, FacetCount::count));
+    }
+
+    private static FacetDocument document(String category, String country, String difficulty,
+                                          Double rating, Double dailyCost, Set<Integer> months) {
+        return new FacetDocument(UUID.randomUUID(), category, country, difficulty, rating, dailyCost, months);
+    }
+}
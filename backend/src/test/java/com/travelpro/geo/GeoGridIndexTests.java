@@ -0,0 +1,67 @@
+package com.travelpro.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoGridIndexTests {
+
+    @Test
+    void nearestMatchesBruteForce() {
+        Random random = new Random(42);
+        List<GeoPoint> points = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            points.add(new GeoPoint(UUID.randomUUID(), random.nextDouble() * 170 - 85, random.nextDouble() * 360 - 180));
+        }
+        GeoGridIndex index = GeoGridIndex.build(points, 0.25);
+
+        for (int q = 0; q < 50; q++) {
+            double lat = random.nextDouble() * 170 - 85;
+            double lng = random.nextDouble() * 360 - 180;
+            List<GeoNeighbour> expected = points.stream()
+                    .map(p -> new GeoNeighbour(p.id(), haversineKm(lat, lng, p.latitude(), p.longitude())))
+                    .filter(n -> n.distanceKm() <= 800)
+                    .sorted(Comparator.comparingDouble(GeoNeighbour::distanceKm))
+                    .limit(10)
+                    .toList();
+
+            List<GeoNeighbour> actual = index.nearest(lat, lng, 800, 10);
+
+            assertThat(actual).extracting(GeoNeighbour::id).containsExactlyElementsOf(
+                    expected.stream().map(GeoNeighbour::id).toList());
+            for (int i = 0; i < actual.size(); i++) {
+                assertThat(actual.get(i).distanceKm()).isCloseTo(expected.get(i).distanceKm(), within(1e-6));
+            }
+        }
+    }
+
+    @Test
+    void radiusExcludesFartherPointsAndWrapsTheAntimeridian() {
+        UUID east = UUID.randomUUID();
+        UUID west = UUID.randomUUID();
+        UUID far = UUID.randomUUID();
+        GeoGridIndex index = GeoGridIndex.build(List.of(
+                new GeoPoint(east, -17.0, 179.9),
+                new GeoPoint(west, -17.0, -179.9),
+                new GeoPoint(far, -17.0, 170.0)), 0.25);
+
+        List<GeoNeighbour> result = index.nearest(-17.0, 179.95, 50, 10);
+
+        assertThat(result).extracting(GeoNeighbour::id).containsExactly(east, west);
+    }
+
+    private static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.pow(Math.sin(dLat / 2), 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.pow(Math.sin(dLng / 2), 2);
+        return 2 * GeoGridIndex.EARTH_RADIUS_KM * Math.asin(Math.sqrt(a));
+    }
+}
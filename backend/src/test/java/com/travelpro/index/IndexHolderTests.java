@@ -0,0 +1,51 @@
+package com.travelpro.index;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class IndexHolderTests {
+
+    private final AtomicInteger builds = new AtomicInteger();
+    private final TaskScheduler taskScheduler = mock(TaskScheduler.class);
+    private final IndexHolder<Integer> holder = new IndexHolder<>("test", builds::incrementAndGet, taskScheduler,
+            Duration.ofSeconds(2));
+
+    @Test
+    void buildsOnFirstUseOnly() {
+        assertThat(holder.get()).isEqualTo(1);
+        assertThat(holder.get()).isEqualTo(1);
+
+        holder.rebuild();
+
+        assertThat(holder.get()).isEqualTo(2);
+    }
+
+    @Test
+    void coalescesChangesIntoOneBackgroundRebuild() {
+        holder.get();
+        holder.rebuildLater();
+        holder.rebuildLater();
+        holder.rebuildLater();
+
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(task.capture(), any(Instant.class));
+        assertThat(holder.get()).isEqualTo(1);
+
+        task.getValue().run();
+
+        assertThat(holder.get()).isEqualTo(2);
+        holder.rebuildLater();
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+}
@@ -0,0 +1,71 @@
+package com.travelpro.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InstrumentationTests {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void recordsStatementsPerRequestUnderTheRoutePattern() throws Exception {
+        StatementCounter inspector = new StatementCounter();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/destinations/42");
+
+        new StatementMetricsFilter(registry, new QueryBudgetGuard(registry, 25, 10, QueryBudgetGuard.Mode.LOG, Duration.ZERO)).doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/destinations/{id}");
+        });
+
+        DistributionSummary summary = registry.get("hibernate.statements.per.request")
+                .tags("method", "GET", "uri", "/destinations/{id}").summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2);
+        assertThat(StatementCounter.current()).isEqualTo(-1);
+    }
+
+    @Test
+    void countsSlowRepositoryCallsPerMethod() throws Throwable {
+        SlowQuerySampler sampler = new SlowQuerySampler(registry, Duration.ZERO, Duration.ofMinutes(1));
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        Signature signature = mock(Signature.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getThis()).thenReturn(new Object());
+        when(joinPoint.getArgs()).thenReturn(new Object[0]);
+        when(signature.getName()).thenReturn("findSummariesByIdIn");
+        when(signature.getDeclaringType()).thenReturn(InstrumentationTests.class);
+        when(joinPoint.proceed()).thenReturn(List.of());
+
+        sampler.sample(joinPoint);
+        sampler.sample(joinPoint);
+
+        assertThat(registry.get("repository.slow.invocations").tag("method", "findSummariesByIdIn")
+                .counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void describesBindParameterShapeWithoutValues() {
+        String shape = SlowQuerySampler.shape(new Object[]{
+                List.of(UUID.randomUUID(), UUID.randomUUID()), "goa", null,
+                PageRequest.of(2, 10, Sort.by("name"))});
+
+        assertThat(shape).isEqualTo("(List[2], String, null, Pageable[page=2, size=10, sort=name: ASC])");
+    }
+}
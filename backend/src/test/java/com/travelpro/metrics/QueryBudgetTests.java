@@ -0,0 +1,101 @@
+package com.travelpro.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QueryBudgetTests {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final StatementCounter inspector = new StatementCounter();
+
+    @AfterEach
+    void closeCount() {
+        StatementCounter.stop();
+    }
+
+    @Test
+    void failsRequestsOverBudgetNamingTheLazyAssociation() {
+        QueryBudgetGuard guard = new QueryBudgetGuard(registry, 3, 10, QueryBudgetGuard.Mode.FAIL, Duration.ZERO);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/destinations");
+
+        assertThatThrownBy(() -> new StatementMetricsFilter(registry, guard).doFilter(request,
+                new MockHttpServletResponse(), (req, res) -> {
+                    req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/destinations");
+                    inspector.inspect("select d from destinations");
+                    for (int i = 0; i < 4; i++) {
+                        StatementCounter.recordLazyLoad("Destination.images");
+                        inspector.inspect("select i from destination_images");
+                    }
+                    StatementCounter.recordLazyLoad("City");
+                }))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("GET /destinations issued 5 SQL statements (budget 3)")
+                .hasMessageContaining("most frequent lazy load: Destination.images");
+
+        assertThat(registry.get("query.budget.exceeded")
+                .tags("scope", "request", "name", "GET /destinations", "association", "Destination.images")
+                .counter().count()).isEqualTo(1);
+        assertThat(StatementCounter.current()).isEqualTo(-1);
+    }
+
+    @Test
+    void checksServiceCallsAgainstTheirOwnStatementsAndBudget() throws Throwable {
+        QueryBudgetGuard guard = new QueryBudgetGuard(registry, 25, 1, QueryBudgetGuard.Mode.LOG, Duration.ZERO);
+        QueryBudgetAspect aspect = new QueryBudgetAspect(guard);
+
+        StatementCounter.start();
+        inspector.inspect("select outside the service call");
+        inspector.inspect("select outside the service call");
+        aspect.check(joinPoint("lookup", 2));
+        aspect.check(joinPoint("batchLookup", 2));
+
+        assertThat(registry.find("query.budget.exceeded").tag("name", "Calls.lookup").counter().count()).isEqualTo(1);
+        assertThat(registry.find("query.budget.exceeded").tag("name", "Calls.batchLookup").counter()).isNull();
+        assertThat(StatementCounter.current()).isEqualTo(6);
+    }
+
+    @Test
+    void shortensCollectionRoles() {
+        assertThat(LazyLoadTracker.shortRole("com.travelpro.entity.Destination.attractions"))
+                .isEqualTo("Destination.attractions");
+    }
+
+    private ProceedingJoinPoint joinPoint(String method, int statements) throws Throwable {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(Calls.class.getDeclaredMethod(method));
+        when(signature.getName()).thenReturn(method);
+        when(signature.getDeclaringType()).thenReturn(Calls.class);
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            for (int i = 0; i < statements; i++) {
+                inspector.inspect("select inside the service call");
+            }
+            return null;
+        });
+        return joinPoint;
+    }
+
+    static class Calls {
+
+        void lookup() {
+        }
+
+        @QueryBudget(2)
+        void batchLookup() {
+        }
+    }
+}
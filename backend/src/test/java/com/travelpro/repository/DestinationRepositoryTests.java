@@ -0,0 +1,163 @@
+package com.travelpro.repository;
+
+import com.travelpro.dto.AttractionDto;
+import com.travelpro.dto.DestinationDto;
+import com.travelpro.dto.DestinationSummaryDto;
+import com.travelpro.entity.*;
+import com.travelpro.mapper.DestinationMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class DestinationRepositoryTests {
+
+    // Root query with the location chain, then one batched query per collection
+    private static final long DETAIL_STATEMENT_BUDGET = 5;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl() + "&stringtype=unspecified");
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private DestinationRepository destinationRepository;
+
+    @Autowired
+    private DestinationCardRepository destinationCardRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final DestinationMapper destinationMapper = Mappers.getMapper(DestinationMapper.class);
+
+    private Destination destination;
+
+    @BeforeEach
+    void setUp() {
+        Country country = entityManager.persist(Country.builder().name("India").code("IND").build());
+        State state = entityManager.persist(State.builder().country(country).name("Goa").code("GA").build());
+        City city = entityManager.persist(City.builder().state(state).name("Panaji").build());
+
+        destination = entityManager.persist(Destination.builder()
+                .name("Baga Beach")
+                .slug("baga-beach")
+                .category("Beach")
+                .description("Lively beach in North Goa")
+                .city(city)
+                .build());
+
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(Attraction.builder().destination(destination)
+                    .name("Attraction " + i).type(Attraction.AttractionType.Essential).build());
+            entityManager.persist(DestinationImage.builder().destination(destination)
+                    .imageUrl("https://img.example/" + i).build());
+            entityManager.persist(DestinationBudget.builder().destination(destination)
+                    .category("food").budgetType("type" + i).pricePerDay(BigDecimal.TEN).build());
+            entityManager.persist(DestinationWeather.builder().destination(destination).month(i + 1).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void detailFetchUsesConstantStatementCount() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        DestinationDto dto = destinationRepository.findDetailById(destination.getId())
+                .map(destinationMapper::toDto)
+                .orElseThrow();
+
+        assertThat(dto.getCity().getState().getCountry().getName()).isEqualTo("India");
+        assertThat(dto.getAttractions()).hasSize(3);
+        assertThat(dto.getImages()).hasSize(3);
+        assertThat(dto.getBudgets()).hasSize(3);
+        assertThat(dto.getWeather()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(DETAIL_STATEMENT_BUDGET);
+    }
+
+    @Test
+    void detailFetchBySlugMatchesFetchById() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        DestinationDto bySlug = destinationRepository.findDetailBySlug("baga-beach")
+                .map(destinationMapper::toDto)
+                .orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(DETAIL_STATEMENT_BUDGET);
+        entityManager.clear();
+
+        DestinationDto byId = destinationRepository.findDetailById(destination.getId())
+                .map(destinationMapper::toDto)
+                .orElseThrow();
+
+        assertThat(bySlug.getAttractions()).hasSize(3).extracting(AttractionDto::getId).doesNotHaveDuplicates();
+        assertThat(bySlug).usingRecursiveComparison().ignoringCollectionOrder().isEqualTo(byId);
+    }
+
+    @Test
+    void ratingScrollIncludesUnratedDestinations() {
+        String[] ratings = {"4.50", null, "3.00", null};
+        for (int i = 0; i < ratings.length; i++) {
+            entityManager.persist(DestinationCard.builder()
+                    .id(cardId(i + 1))
+                    .name("Card " + (i + 1))
+                    .slug("card-" + (i + 1))
+                    .category("Beach")
+                    .rating(ratings[i] != null ? new BigDecimal(ratings[i]) : null)
+                    .build());
+        }
+        entityManager.flush();
+
+        List<UUID> scrolled = new ArrayList<>();
+        List<DestinationSummaryDto> slice = destinationCardRepository.findSummariesOrderByRating(PageRequest.of(0, 1));
+        while (!slice.isEmpty()) {
+            DestinationSummaryDto last = slice.get(0);
+            scrolled.add(last.getId());
+            BigDecimal rating = last.getRating() != null ? last.getRating() : BigDecimal.ZERO;
+            slice = destinationCardRepository.findSummariesOrderByRatingAfter(rating, last.getId(), PageRequest.of(0, 1));
+        }
+
+        // Unrated destinations come last, by id descending like every other rating
+        assertThat(scrolled).containsExactly(cardId(1), cardId(3), cardId(4), cardId(2));
+    }
+
+    private static UUID cardId(int n) {
+        return new UUID(0, n);
+    }
+}
@@ -0,0 +1,189 @@
+package com.travelpro.review;
+
+import com.travelpro.cache.CacheChange;
+import com.travelpro.cache.CacheInvalidator;
+import com.travelpro.cache.EntityChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReviewAggregateBufferTests {
+
+    private static final UUID FIRST = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID SECOND = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final CacheInvalidator cacheInvalidator = mock(CacheInvalidator.class);
+    private final List<Object[]> flushedArrays = new ArrayList<>();
+    private final ReviewAggregateBuffer buffer;
+
+    ReviewAggregateBufferTests() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        buffer = new ReviewAggregateBuffer(jdbcTemplate, transactionManager, cacheInvalidator,
+                new SimpleMeterRegistry(), 500);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void coalescesDeltasPerDestinationIntoOneFlushAndEvictsTheFlushedDestinations() throws Exception {
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenAnswer(invocation -> {
+            captureArrays(invocation.getArgument(0));
+            return List.of(EntityChangedEvent.of(CacheChange.DESTINATION_RATING, FIRST, "first"),
+                    EntityChangedEvent.of(CacheChange.DESTINATION_RATING, SECOND, "second"));
+        });
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class))).thenAnswer(invocation -> {
+            captureArrays(invocation.getArgument(0));
+            return 2;
+        });
+
+        buffer.record(SECOND, ReviewDelta.added(4, "solo"));
+        buffer.record(FIRST, ReviewDelta.added(5, "family"));
+        buffer.record(FIRST, ReviewDelta.added(3, null));
+        buffer.record(FIRST, ReviewDelta.changed(3, null, 1, null));
+        buffer.record(SECOND, ReviewDelta.removed(2, null));
+        buffer.flush();
+
+        assertThat(flushedArrays).hasSize(13);
+        assertThat(flushedArrays.get(0)).containsExactly(FIRST, SECOND);
+        assertThat(flushedArrays.get(1)).containsExactly(6L, 2L);
+        assertThat(flushedArrays.get(2)).containsExactly(2, 0);
+        assertThat(flushedArrays.subList(3, 8)).containsExactly(
+                new Integer[]{1, 0}, new Integer[]{0, -1}, new Integer[]{0, 0}, new Integer[]{0, 1}, new Integer[]{1, 0});
+        assertThat(flushedArrays.get(8)).containsExactly(FIRST, SECOND);
+        assertThat(flushedArrays.get(9)).containsExactly(FIRST, SECOND);
+        assertThat(flushedArrays.get(10)).containsExactly("family", "solo");
+        assertThat(flushedArrays.get(11)).containsExactly(5L, 4L);
+        assertThat(flushedArrays.get(12)).containsExactly(1, 1);
+        verify(cacheInvalidator).invalidateAll(List.of(
+                EntityChangedEvent.of(CacheChange.REVIEW_STATS, FIRST),
+                EntityChangedEvent.of(CacheChange.REVIEW_STATS, SECOND),
+                EntityChangedEvent.of(CacheChange.DESTINATION_RATING, FIRST, "first"),
+                EntityChangedEvent.of(CacheChange.DESTINATION_RATING, SECOND, "second")));
+
+        flushedArrays.clear();
+        buffer.flush();
+        assertThat(flushedArrays).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void leavesTheRatingAloneWhenOnlyTheTravelTypeChanges() throws Exception {
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenAnswer(invocation -> {
+            captureArrays(invocation.getArgument(0));
+            return List.of();
+        });
+
+        buffer.record(FIRST, ReviewDelta.changed(4, "solo", 4, "couple"));
+        buffer.flush();
+
+        assertThat(flushedArrays.get(1)).containsExactly(0L);
+        assertThat(flushedArrays.get(8)).isEmpty();
+        verify(cacheInvalidator).invalidateAll(List.of(EntityChangedEvent.of(CacheChange.REVIEW_STATS, FIRST)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void keepsDeltasPendingWhenAFlushFails() throws Exception {
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class)))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenAnswer(invocation -> {
+                    captureArrays(invocation.getArgument(0));
+                    return List.of();
+                });
+
+        buffer.record(FIRST, ReviewDelta.added(5, null));
+        buffer.flush();
+        verify(cacheInvalidator).invalidateAll(List.of());
+
+        buffer.record(FIRST, ReviewDelta.added(4, null));
+        buffer.flush();
+        assertThat(flushedArrays.get(1)).containsExactly(9L);
+        assertThat(flushedArrays.get(2)).containsExactly(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dropsTheDeltaOfADeletedDestinationAndFlushesTheRestOfItsBatch() throws Exception {
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenAnswer(invocation -> {
+            int first = flushedArrays.size();
+            captureArrays(invocation.getArgument(0));
+            if (List.of(flushedArrays.get(first)).contains(FIRST)) {
+                throw new DataIntegrityViolationException("destination_review_stats_destination_id_fkey");
+            }
+            return List.of();
+        });
+
+        buffer.record(FIRST, ReviewDelta.added(5, null));
+        buffer.record(SECOND, ReviewDelta.added(4, null));
+        buffer.flush();
+
+        verify(cacheInvalidator).invalidateAll(List.of(EntityChangedEvent.of(CacheChange.REVIEW_STATS, SECOND)));
+
+        flushedArrays.clear();
+        buffer.flush();
+        assertThat(flushedArrays).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void ignoresReviewWritesThatRollBack() throws Exception {
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenAnswer(invocation -> {
+            captureArrays(invocation.getArgument(0));
+            return List.of();
+        });
+
+        TransactionSynchronizationManager.initSynchronization();
+        buffer.recordAfterCommit(FIRST, ReviewDelta.added(5, null));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.initSynchronization();
+        buffer.recordAfterCommit(SECOND, ReviewDelta.added(2, null));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        buffer.flush();
+        assertThat(flushedArrays.get(0)).containsExactly(SECOND);
+    }
+
+    private void captureArrays(PreparedStatementCreator creator) throws Exception {
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+        when(connection.createArrayOf(anyString(), any())).thenAnswer(invocation -> {
+            flushedArrays.add(invocation.getArgument(1));
+            return null;
+        });
+        creator.createPreparedStatement(connection);
+    }
+}
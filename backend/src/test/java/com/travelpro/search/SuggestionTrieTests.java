@@ -0,0 +1,40 @@
+package com.travelpro.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestionTrieTests {
+
+    @Test
+    void suggestsByWeightFromAnyWordStartIgnoringCaseAndAccents() {
+        Map<String, Suggestion> suggestions = new LinkedHashMap<>();
+        SearchSuggestionIndex.addName(suggestions, "destination", "New York");
+        SearchSuggestionIndex.addName(suggestions, "city", "Newcastle");
+        SearchSuggestionIndex.addName(suggestions, "destination", "Zürich");
+        SearchSuggestionIndex.addName(suggestions, "city", "new york");
+        SearchSuggestionIndex.addSearches(suggestions, "newcastle", 5);
+        SearchSuggestionIndex.addSearches(suggestions, "new zealand hiking", 3);
+        SuggestionTrie trie = SuggestionTrie.build(suggestions.values(), 2);
+
+        assertThat(trie.size()).isEqualTo(4);
+        assertThat(trie.suggest("NEW", 10)).containsExactly(
+                new Suggestion("Newcastle", "city", 6),
+                new Suggestion("new zealand hiking", SearchSuggestionIndex.QUERY_TYPE, 3));
+        assertThat(trie.suggest("new y", 10)).containsExactly(new Suggestion("New York", "destination", 1));
+        assertThat(trie.suggest("york", 10)).containsExactly(new Suggestion("New York", "destination", 1));
+        assertThat(trie.suggest("zur", 10)).extracting(Suggestion::text).containsExactly("Zürich");
+        assertThat(trie.suggest("hik", 1)).extracting(Suggestion::text).containsExactly("new zealand hiking");
+        assertThat(trie.suggest("paris", 10)).isEmpty();
+        assertThat(trie.suggest("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void emptyTrieSuggestsNothing() {
+        assertThat(SuggestionTrie.empty().suggest("a", 5)).isEqualTo(List.of());
+    }
+}
@@ -0,0 +1,48 @@
+package com.travelpro.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class VerifiedTokenCacheTests {
+
+    private static final String SECRET = "test-secret-that-is-long-enough-for-hs256-signing";
+
+    @Test
+    void verifiesEachTokenOnce() {
+        JwtTokenProvider provider = spy(new JwtTokenProvider(SECRET, 60_000));
+        VerifiedTokenCache cache = new VerifiedTokenCache(provider, 100, Duration.ofMinutes(10));
+        String token = provider.generateToken(authentication("traveller@example.com"));
+
+        assertThat(cache.verify(token)).hasValueSatisfying(
+                verified -> assertThat(verified.subject()).isEqualTo("traveller@example.com"));
+        assertThat(cache.verify(token)).isPresent();
+
+        verify(provider, times(1)).verify(token);
+    }
+
+    @Test
+    void rejectsTokensSignedWithAnotherKey() {
+        JwtTokenProvider provider = spy(new JwtTokenProvider(SECRET, 60_000));
+        VerifiedTokenCache cache = new VerifiedTokenCache(provider, 100, Duration.ofMinutes(10));
+        String forged = new JwtTokenProvider(SECRET.replace('t', 'x'), 60_000)
+                .generateToken(authentication("traveller@example.com"));
+
+        assertThat(cache.verify(forged)).isEmpty();
+        assertThat(cache.verify(forged)).isEmpty();
+
+        verify(provider, times(2)).verify(forged);
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication(String username) {
+        return new UsernamePasswordAuthenticationToken(new User(username, "", List.of()), null, List.of());
+    }
+}
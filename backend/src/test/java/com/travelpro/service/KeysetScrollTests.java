@@ -0,0 +1,68 @@
+package com.travelpro.service;
+
+import com.travelpro.cache.CacheBatchLoader;
+import com.travelpro.dto.BlogPostDto;
+import com.travelpro.dto.CursorPage;
+import com.travelpro.dto.DestinationSummaryDto;
+import com.travelpro.entity.BlogPost;
+import com.travelpro.facet.DestinationFacetIndex;
+import com.travelpro.geo.DestinationGeoIndex;
+import com.travelpro.mapper.BlogMapper;
+import com.travelpro.mapper.DestinationMapper;
+import com.travelpro.pagination.CursorCodec;
+import com.travelpro.repository.BlogCategoryRepository;
+import com.travelpro.repository.BlogPostRepository;
+import com.travelpro.repository.DestinationCardRepository;
+import com.travelpro.repository.DestinationRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KeysetScrollTests {
+
+    private final DestinationCardRepository destinationCardRepository = mock(DestinationCardRepository.class);
+    private final BlogPostRepository blogPostRepository = mock(BlogPostRepository.class);
+    private final DestinationService destinationService = new DestinationService(mock(DestinationRepository.class),
+            destinationCardRepository, mock(DestinationMapper.class), mock(DestinationGeoIndex.class),
+            mock(DestinationFacetIndex.class), mock(CacheBatchLoader.class));
+    private final BlogService blogService = new BlogService(blogPostRepository, mock(BlogCategoryRepository.class),
+            mock(BlogMapper.class), mock(CacheBatchLoader.class));
+
+    @Test
+    void ratingScrollContinuesAfterUnratedDestination() {
+        UUID unrated = UUID.randomUUID();
+        when(destinationCardRepository.findSummariesOrderByRating(any())).thenReturn(List.of(
+                DestinationSummaryDto.builder().id(UUID.randomUUID()).rating(new BigDecimal("4.50")).build(),
+                DestinationSummaryDto.builder().id(unrated).build(),
+                DestinationSummaryDto.builder().id(UUID.randomUUID()).build()));
+
+        CursorPage<DestinationSummaryDto> first = destinationService.scrollDestinations(null, 2, "rating", false);
+
+        assertThat(CursorCodec.decode(first.getNextCursor(), "rating").value()).isEqualTo("0");
+        destinationService.scrollDestinations(first.getNextCursor(), 2, "rating", false);
+        verify(destinationCardRepository).findSummariesOrderByRatingAfter(eq(BigDecimal.ZERO), eq(unrated), any());
+    }
+
+    @Test
+    void publishedScrollContinuesAfterPostWithoutPublishDate() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 7, 1, 12, 0);
+        BlogPost undated = BlogPost.builder().id(UUID.randomUUID()).createdAt(createdAt).build();
+        when(blogPostRepository.findPublishedOrderByPublishedAt(any())).thenReturn(List.of(
+                undated, BlogPost.builder().id(UUID.randomUUID()).createdAt(createdAt.minusDays(1)).build()));
+
+        CursorPage<BlogPostDto> first = blogService.scrollBlogPosts(null, 1, false);
+
+        blogService.scrollBlogPosts(first.getNextCursor(), 1, false);
+        verify(blogPostRepository).findPublishedOrderByPublishedAtAfter(eq(createdAt), eq(undated.getId()), any());
+    }
+}
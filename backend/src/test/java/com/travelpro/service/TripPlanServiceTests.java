@@ -0,0 +1,126 @@
+package com.travelpro.service;
+
+import com.travelpro.activity.ActivityRecorder;
+import com.travelpro.dto.ItineraryActivityRequest;
+import com.travelpro.dto.TripItineraryRequest;
+import com.travelpro.dto.TripPlanRequest;
+import com.travelpro.entity.ItineraryActivity;
+import com.travelpro.entity.TripItinerary;
+import com.travelpro.entity.TripPlan;
+import com.travelpro.entity.User;
+import com.travelpro.exception.BadRequestException;
+import com.travelpro.exception.ResourceNotFoundException;
+import com.travelpro.mapper.TripMapper;
+import com.travelpro.repository.AttractionRepository;
+import com.travelpro.repository.DestinationCardRepository;
+import com.travelpro.repository.DestinationRepository;
+import com.travelpro.repository.TripPlanRepository;
+import com.travelpro.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TripPlanServiceTests {
+
+    private static final String EMAIL = "traveller@example.com";
+    private static final UUID PLAN_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private final TripPlanRepository tripPlanRepository = mock(TripPlanRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final AttractionRepository attractionRepository = mock(AttractionRepository.class);
+    private final TripPlanService service = new TripPlanService(tripPlanRepository, mock(DestinationRepository.class),
+            mock(DestinationCardRepository.class), attractionRepository, userRepository, mock(TripMapper.class),
+            mock(ActivityRecorder.class), 30, 30);
+
+    private final User owner = User.builder().id(UUID.randomUUID()).email(EMAIL).build();
+    private TripPlan plan;
+    private ItineraryActivity museum;
+    private ItineraryActivity dinner;
+    private TripItinerary secondDay;
+
+    @BeforeEach
+    void setUp() {
+        plan = TripPlan.builder().id(PLAN_ID).user(owner).title("Rome").startDate(LocalDate.of(2026, 5, 1))
+                .endDate(LocalDate.of(2026, 5, 3)).days(new ArrayList<>()).build();
+        TripItinerary firstDay = day(1);
+        museum = activity(firstDay, "Vatican Museums", "20.00", 0);
+        dinner = activity(firstDay, "Trastevere dinner", "35.00", 1);
+        secondDay = day(2);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(owner));
+        when(tripPlanRepository.findWithDaysById(PLAN_ID)).thenReturn(Optional.of(plan));
+    }
+
+    @Test
+    void updateKeepsMatchedRowsAndReplacesOnlyWhatChanged() {
+        TripPlanRequest request = request(
+                TripItineraryRequest.builder().dayNumber(1).activities(List.of(
+                        activityRequest(dinner.getId(), "Trastevere dinner", "35"),
+                        activityRequest(null, "Gelato", "4.50"))).build(),
+                TripItineraryRequest.builder().dayNumber(3).activities(List.of()).build());
+
+        service.updateTripPlan(PLAN_ID, EMAIL, request);
+
+        assertThat(plan.getDays()).extracting(TripItinerary::getDayNumber).containsExactly(1, 3);
+        TripItinerary firstDay = plan.getDays().get(0);
+        assertThat(firstDay.getActivities()).hasSize(2).doesNotContain(museum);
+        assertThat(firstDay.getActivities().get(0)).isSameAs(dinner);
+        assertThat(dinner.getSortOrder()).isZero();
+        assertThat(dinner.getCost()).isEqualByComparingTo("35.00").hasToString("35.00");
+        assertThat(firstDay.getActivities().get(1).getId()).isNull();
+        assertThat(firstDay.getActivities().get(1).getItinerary()).isSameAs(firstDay);
+        assertThat(firstDay.getTotalCost()).isEqualByComparingTo("39.50");
+        assertThat(plan.getDays().get(1).getDate()).isEqualTo(LocalDate.of(2026, 5, 3));
+        assertThat(plan.getDays()).doesNotContain(secondDay);
+        verify(tripPlanRepository).findDaysWithActivities(PLAN_ID);
+        verify(attractionRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void rejectsOtherUsersPlansAndDaysOutsideTheTrip() {
+        plan.setUser(User.builder().id(UUID.randomUUID()).build());
+        assertThatThrownBy(() -> service.updateTripPlan(PLAN_ID, EMAIL, request()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> service.getTripPlan(PLAN_ID, null))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        TripPlanRequest tooLate = request(TripItineraryRequest.builder().dayNumber(4).build());
+        assertThatThrownBy(() -> service.createTripPlan(EMAIL, tooLate)).isInstanceOf(BadRequestException.class);
+    }
+
+    private TripItinerary day(int dayNumber) {
+        TripItinerary day = TripItinerary.builder().id(UUID.randomUUID()).tripPlan(plan).dayNumber(dayNumber)
+                .date(plan.getStartDate().plusDays(dayNumber - 1L)).activities(new ArrayList<>()).build();
+        plan.getDays().add(day);
+        return day;
+    }
+
+    private static ItineraryActivity activity(TripItinerary day, String name, String cost, int sortOrder) {
+        ItineraryActivity activity = ItineraryActivity.builder().id(UUID.randomUUID()).itinerary(day)
+                .activityType("attraction").name(name).cost(new BigDecimal(cost)).sortOrder(sortOrder).build();
+        day.getActivities().add(activity);
+        return activity;
+    }
+
+    private static ItineraryActivityRequest activityRequest(UUID id, String name, String cost) {
+        return ItineraryActivityRequest.builder().id(id).activityType("meal").name(name).cost(new BigDecimal(cost)).build();
+    }
+
+    private TripPlanRequest request(TripItineraryRequest... days) {
+        return TripPlanRequest.builder().title("Rome").startDate(plan.getStartDate()).endDate(plan.getEndDate())
+                .days(List.of(days)).build();
+    }
+}
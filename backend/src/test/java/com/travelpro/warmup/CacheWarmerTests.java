@@ -0,0 +1,68 @@
+package com.travelpro.warmup;
+
+import com.travelpro.geo.DestinationGeoIndex;
+import com.travelpro.search.SearchSuggestionIndex;
+import com.travelpro.service.BlogService;
+import com.travelpro.service.DestinationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CacheWarmerTests {
+
+    private final DestinationService destinationService = mock(DestinationService.class);
+    private final BlogService blogService = mock(BlogService.class);
+    private final DestinationGeoIndex geoIndex = mock(DestinationGeoIndex.class);
+    private final SearchSuggestionIndex suggestionIndex = mock(SearchSuggestionIndex.class);
+
+    @Test
+    void warmsHomepageCachesAndFirstListingPages() {
+        when(blogService.getAllCategories()).thenThrow(new IllegalStateException("boom"));
+        CacheWarmer warmer = warmer(Duration.ofSeconds(10));
+        CacheWarmupHealthIndicator health = new CacheWarmupHealthIndicator(warmer);
+        assertThat(health.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        warmer.warmUp();
+
+        verify(destinationService).getFeaturedDestinations();
+        verify(destinationService).getTopDestinations();
+        verify(blogService).getFeaturedBlogPosts();
+        verify(geoIndex).rebuild();
+        verify(suggestionIndex).rebuild();
+        verify(destinationService, times(4)).getAllDestinations(any());
+        verify(blogService, times(4)).getAllBlogPosts(any());
+        assertThat(warmer.getState()).isEqualTo(CacheWarmer.WarmupState.COMPLETED);
+        assertThat(warmer.getFailedTasks()).isEqualTo(1);
+        assertThat(health.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void becomesReadyWhenWarmupTimesOut() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        when(destinationService.getTopDestinations()).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+        CacheWarmer warmer = warmer(Duration.ofMillis(200));
+
+        warmer.warmUp();
+        release.countDown();
+
+        assertThat(warmer.getState()).isEqualTo(CacheWarmer.WarmupState.TIMED_OUT);
+        assertThat(new CacheWarmupHealthIndicator(warmer).health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    private CacheWarmer warmer(Duration timeout) {
+        return new CacheWarmer(destinationService, blogService, geoIndex, suggestionIndex, true, 2, timeout, 2, List.of(10, 12));
+    }
+}
@@ -0,0 +1,157 @@
+package com.travelpro.web;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheFilterTests {
+
+    private static final String JSON = "{\"content\":[" + "{\"name\":\"Goa\"},".repeat(100) + "{}]}";
+
+    private final AtomicInteger controllerCalls = new AtomicInteger();
+    private ResponseCacheFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ResponseCacheFilter(new ConcurrentMapCacheManager("destinationResponses", "blogResponses"),
+                Duration.ofSeconds(60), 1 << 20, List.of("/destinations/nearby", "/destinations/*/reviews"));
+    }
+
+    @Test
+    void servesCachedGzipAndRevalidatesWithoutReachingController() throws Exception {
+        MockHttpServletResponse first = perform(request("page=0&size=10", null));
+        String etag = first.getHeader("ETag");
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(first.getHeader("Cache-Control")).isEqualTo("public, max-age=60");
+        assertThat(gunzip(first.getContentAsByteArray())).isEqualTo(JSON);
+
+        MockHttpServletResponse revalidated = perform(request("size=10&page=0", etag));
+
+        assertThat(revalidated.getStatus()).isEqualTo(304);
+        assertThat(revalidated.getContentAsByteArray()).isEmpty();
+        assertThat(revalidated.getHeader("ETag")).isEqualTo(etag);
+        assertThat(controllerCalls).hasValue(1);
+    }
+
+    @Test
+    void keysOnlyWhitelistedParametersWithDefaultsApplied() {
+        assertThat(ResponseCacheKeys.of("/destinations", get("/api/destinations")))
+                .isEqualTo(ResponseCacheKeys.of("/destinations", get("/api/destinations",
+                        "page=0&size=10&sortBy=name&sortDir=asc")))
+                .isEqualTo("/destinations?p0:s10:name,asc");
+        assertThat(ResponseCacheKeys.of("/blog/posts", get("/api/blog/posts", "size=12&sortDir=asc")))
+                .isEqualTo("/blog/posts?p0:s12:publishedAt,asc");
+        assertThat(ResponseCacheKeys.of("/blog/posts/featured", get("/api/blog/posts/featured")))
+                .isEqualTo("/blog/posts/featured");
+    }
+
+    @Test
+    void bypassesCacheBustersDeepPagesAndUnknownRoutes() throws Exception {
+        assertThat(ResponseCacheKeys.of("/destinations", get("/api/destinations", "page=0&x=1"))).isNull();
+        assertThat(ResponseCacheKeys.of("/destinations", get("/api/destinations", "page=500"))).isNull();
+        assertThat(ResponseCacheKeys.of("/destinations", get("/api/destinations", "size=11"))).isNull();
+        assertThat(ResponseCacheKeys.of("/destinations", get("/api/destinations", "cursor=abc"))).isNull();
+        assertThat(ResponseCacheKeys.of("/destinations", get("/api/destinations", "sortBy=secret"))).isNull();
+        assertThat(ResponseCacheKeys.of("/destinations", get("/api/destinations", "page=0&page=1"))).isNull();
+        assertThat(ResponseCacheKeys.of("/blog/posts/featured", get("/api/blog/posts/featured", "v=2"))).isNull();
+        assertThat(ResponseCacheKeys.of("/destinations/a/b/c", get("/api/destinations/a/b/c"))).isNull();
+
+        perform(request("page=0&x=1", null));
+        perform(request("page=0&x=2", null));
+        assertThat(controllerCalls).hasValue(2);
+    }
+
+    @Test
+    void neverKeysFreeTextSearchesFiltersOrCategories() {
+        String random = UUID.randomUUID().toString();
+        assertThat(ResponseCacheKeys.of("/destinations/search", get("/api/destinations/search", "q=" + random)))
+                .isNull();
+        assertThat(ResponseCacheKeys.of("/blog/posts/search", get("/api/blog/posts/search", "q=" + random)))
+                .isNull();
+        assertThat(ResponseCacheKeys.of("/destinations/filter", get("/api/destinations/filter", "country=" + random)))
+                .isNull();
+        assertThat(ResponseCacheKeys.of("/destinations/category/" + random,
+                get("/api/destinations/category/" + random))).isNull();
+        assertThat(ResponseCacheKeys.of("/blog/posts/category/" + random,
+                get("/api/blog/posts/category/" + random))).isNull();
+    }
+
+    @Test
+    void excludedPathsMatchPatternsAndEverythingBelowThem() {
+        assertThat(filter.shouldNotFilter(get("/api/destinations/nearby"))).isTrue();
+        assertThat(filter.shouldNotFilter(get("/api/destinations/5f0c/reviews"))).isTrue();
+        assertThat(filter.shouldNotFilter(get("/api/destinations/5f0c/reviews/stats"))).isTrue();
+        assertThat(filter.shouldNotFilter(get("/api/destinations/5f0c"))).isFalse();
+    }
+
+    @Test
+    void acceptsGzipHonoursZeroQuality() {
+        assertThat(ResponseCacheFilter.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(ResponseCacheFilter.acceptsGzip("br;q=1.0, gzip;q=0")).isFalse();
+        assertThat(ResponseCacheFilter.acceptsGzip("identity")).isFalse();
+    }
+
+    private static MockHttpServletRequest get(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setContextPath("/api");
+        return request;
+    }
+
+    private static MockHttpServletRequest get(String uri, String query) {
+        MockHttpServletRequest request = get(uri);
+        request.setQueryString(query);
+        for (String pair : query.split("&")) {
+            String[] parts = pair.split("=");
+            request.addParameter(parts[0], URLDecoder.decode(parts[1], StandardCharsets.UTF_8));
+        }
+        return request;
+    }
+
+    private MockHttpServletRequest request(String query, String ifNoneMatch) {
+        MockHttpServletRequest request = get("/api/destinations", query);
+        request.addHeader("Accept-Encoding", "gzip");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return request;
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                controllerCalls.incrementAndGet();
+                resp.setContentType("application/json");
+                resp.getOutputStream().write(JSON.getBytes());
+            }
+        }));
+        return response;
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+-- Ranked full-text search for destinations
+-- Denormalizes the searchable text of a destination and its location hierarchy into a
+-- weighted tsvector that is kept up to date by triggers.
+
+-- ============================================================================
+-- SEARCH VECTOR COLUMN
+-- ============================================================================
+
+ALTER TABLE destinations ADD COLUMN search_vector tsvector;
+
+-- Weights: A = name, B = category and location names, C = short description, D = description
+CREATE OR REPLACE FUNCTION destination_search_vector(dest destinations)
+RETURNS tsvector AS $$
+DECLARE
+    location_names TEXT;
+BEGIN
+    SELECT concat_ws(' ', ci.name, st.name, co.name)
+    INTO location_names
+    FROM cities ci
+    LEFT JOIN states st ON st.id = ci.state_id
+    LEFT JOIN countries co ON co.id = st.country_id
+    WHERE ci.id = dest.city_id;
+
+    RETURN setweight(to_tsvector('english', coalesce(dest.name, '')), 'A') ||
+           setweight(to_tsvector('english', coalesce(dest.category, '') || ' ' || coalesce(location_names, '')), 'B') ||
+           setweight(to_tsvector('english', coalesce(dest.short_description, '')), 'C') ||
+           setweight(to_tsvector('english', coalesce(dest.description, '')), 'D');
+END;
+$$ LANGUAGE plpgsql STABLE;
+
+UPDATE destinations d SET search_vector = destination_search_vector(d);
+
+CREATE INDEX idx_destinations_search_vector ON destinations USING gin(search_vector);
+
+-- ============================================================================
+-- TRIGGERS
+-- ============================================================================
+
+CREATE OR REPLACE FUNCTION update_destination_search_vector()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector = destination_search_vector(NEW);
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER update_destinations_search_vector
+    BEFORE INSERT OR UPDATE OF name, category, short_description, description, city_id ON destinations
+    FOR EACH ROW EXECUTE FUNCTION update_destination_search_vector();
+
+-- Renaming a city, state or country changes the location part of every dependent vector
+CREATE OR REPLACE FUNCTION refresh_destination_search_vectors_for_location()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_TABLE_NAME = 'cities' THEN
+        UPDATE destinations d SET search_vector = destination_search_vector(d)
+        WHERE d.city_id = NEW.id;
+    ELSIF TG_TABLE_NAME = 'states' THEN
+        UPDATE destinations d SET search_vector = destination_search_vector(d)
+        FROM cities ci
+        WHERE d.city_id = ci.id AND ci.state_id = NEW.id;
+    ELSE
+        UPDATE destinations d SET search_vector = destination_search_vector(d)
+        FROM cities ci
+        JOIN states st ON st.id = ci.state_id
+        WHERE d.city_id = ci.id AND st.country_id = NEW.id;
+    END IF;
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER refresh_destination_search_on_city_rename
+    AFTER UPDATE OF name ON cities
+    FOR EACH ROW WHEN (OLD.name IS DISTINCT FROM NEW.name)
+    EXECUTE FUNCTION refresh_destination_search_vectors_for_location();
+
+CREATE TRIGGER refresh_destination_search_on_state_rename
+    AFTER UPDATE OF name ON states
+    FOR EACH ROW WHEN (OLD.name IS DISTINCT FROM NEW.name)
+    EXECUTE FUNCTION refresh_destination_search_vectors_for_location();
+
+CREATE TRIGGER refresh_destination_search_on_country_rename
+    AFTER UPDATE OF name ON countries
+    FOR EACH ROW WHEN (OLD.name IS DISTINCT FROM NEW.name)
+    EXECUTE FUNCTION refresh_destination_search_vectors_for_location();
@@ -0,0 +1,7 @@
+-- Indexes backing keyset (seek) pagination
+-- Each index matches the ORDER BY of a scroll query, including the id tie-breaker,
+-- so the next slice is an index range scan regardless of how deep the client has scrolled.
+
+CREATE INDEX idx_destinations_active_name_id ON destinations(name, id) WHERE is_active = true;
+CREATE INDEX idx_destinations_active_rating_id ON destinations(rating DESC, id DESC) WHERE is_active = true;
+CREATE INDEX idx_blog_posts_published_at_id ON blog_posts(published_at DESC, id DESC) WHERE is_published = true;
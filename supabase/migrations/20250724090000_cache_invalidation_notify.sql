@@ -0,0 +1,22 @@
+-- Cache invalidation notifications
+-- The review triggers rewrite destinations.rating and review_count inside the database, where the
+-- application's JPA listeners cannot see it. Publish those changes on a NOTIFY channel instead.
+-- Payload: {"table": "destinations", "id": "<uuid>", "slug": "<slug>"}
+
+CREATE OR REPLACE FUNCTION notify_destination_rating_change()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_notify('travelpro_cache_invalidation', json_build_object(
+        'table', TG_TABLE_NAME,
+        'id', NEW.id,
+        'slug', NEW.slug
+    )::text);
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER notify_destinations_rating_change
+    AFTER UPDATE OF rating, review_count ON destinations
+    FOR EACH ROW
+    WHEN (OLD.rating IS DISTINCT FROM NEW.rating OR OLD.review_count IS DISTINCT FROM NEW.review_count)
+    EXECUTE FUNCTION notify_destination_rating_change();
@@ -0,0 +1,107 @@
+-- Denormalized destination cards
+-- Listing and filter queries read a flattened copy of each active destination with its city, state and
+-- country names, so they no longer join destinations -> cities -> states -> countries on every request.
+-- Row triggers keep the copy in step with every write, including the rating updates made by the review
+-- triggers, so it is refreshed one destination at a time instead of being rebuilt like a materialized view.
+
+CREATE TABLE destination_cards (
+    id UUID PRIMARY KEY REFERENCES destinations(id) ON DELETE CASCADE,
+    name VARCHAR(200) NOT NULL,
+    slug VARCHAR(200) NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    short_description VARCHAR(500),
+    main_image_url TEXT,
+    rating DECIMAL(3, 2),
+    review_count INTEGER,
+    best_time_to_visit VARCHAR(100),
+    recommended_duration VARCHAR(50),
+    difficulty_level VARCHAR(20),
+    latitude DECIMAL(10, 8),
+    longitude DECIMAL(11, 8),
+    is_featured BOOLEAN,
+    created_at TIMESTAMP WITH TIME ZONE,
+    city_name VARCHAR(100),
+    state_name VARCHAR(100),
+    country_name VARCHAR(100)
+);
+
+-- Only active destinations have a card, so none of these need an is_active predicate.
+-- Each index matches the ORDER BY of a listing, with the id tie-breaker used by keyset pagination.
+CREATE INDEX idx_destination_cards_name_id ON destination_cards(name, id);
+CREATE INDEX idx_destination_cards_rating_id ON destination_cards(rating DESC, id DESC);
+CREATE INDEX idx_destination_cards_category_name ON destination_cards(category, name);
+CREATE INDEX idx_destination_cards_category_rating ON destination_cards(category, rating DESC);
+CREATE INDEX idx_destination_cards_country_category_name ON destination_cards(country_name, category, name);
+CREATE INDEX idx_destination_cards_featured ON destination_cards(name) WHERE is_featured = true;
+
+CREATE OR REPLACE FUNCTION refresh_destination_cards(destination_ids UUID[])
+RETURNS VOID AS $$
+BEGIN
+    DELETE FROM destination_cards WHERE id = ANY(destination_ids);
+
+    INSERT INTO destination_cards (
+        id, name, slug, category, short_description, main_image_url, rating, review_count,
+        best_time_to_visit, recommended_duration, difficulty_level, latitude, longitude, is_featured,
+        created_at, city_name, state_name, country_name
+    )
+    SELECT d.id, d.name, d.slug, d.category, d.short_description, d.main_image_url, d.rating, d.review_count,
+           d.best_time_to_visit, d.recommended_duration, d.difficulty_level, d.latitude, d.longitude,
+           d.is_featured, d.created_at, ci.name, st.name, co.name
+    FROM destinations d
+    LEFT JOIN cities ci ON ci.id = d.city_id
+    LEFT JOIN states st ON st.id = ci.state_id
+    LEFT JOIN countries co ON co.id = st.country_id
+    WHERE d.id = ANY(destination_ids) AND d.is_active = true;
+END;
+$$ language 'plpgsql';
+
+CREATE OR REPLACE FUNCTION refresh_destination_card_on_destination_change()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM refresh_destination_cards(ARRAY[NEW.id]);
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+CREATE OR REPLACE FUNCTION refresh_destination_cards_on_location_change()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM refresh_destination_cards(ARRAY(
+        SELECT d.id
+        FROM destinations d
+        JOIN cities ci ON ci.id = d.city_id
+        JOIN states st ON st.id = ci.state_id
+        WHERE CASE TG_TABLE_NAME
+                  WHEN 'cities' THEN ci.id = NEW.id
+                  WHEN 'states' THEN st.id = NEW.id
+                  ELSE st.country_id = NEW.id
+              END
+    ));
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER refresh_destination_card
+    AFTER INSERT OR UPDATE ON destinations
+    FOR EACH ROW
+    EXECUTE FUNCTION refresh_destination_card_on_destination_change();
+
+CREATE TRIGGER refresh_destination_cards_city
+    AFTER UPDATE OF name, state_id ON cities
+    FOR EACH ROW
+    WHEN (OLD.name IS DISTINCT FROM NEW.name OR OLD.state_id IS DISTINCT FROM NEW.state_id)
+    EXECUTE FUNCTION refresh_destination_cards_on_location_change();
+
+CREATE TRIGGER refresh_destination_cards_state
+    AFTER UPDATE OF name, country_id ON states
+    FOR EACH ROW
+    WHEN (OLD.name IS DISTINCT FROM NEW.name OR OLD.country_id IS DISTINCT FROM NEW.country_id)
+    EXECUTE FUNCTION refresh_destination_cards_on_location_change();
+
+CREATE TRIGGER refresh_destination_cards_country
+    AFTER UPDATE OF name ON countries
+    FOR EACH ROW
+    WHEN (OLD.name IS DISTINCT FROM NEW.name)
+    EXECUTE FUNCTION refresh_destination_cards_on_location_change();
+
+SELECT refresh_destination_cards(ARRAY(SELECT id FROM destinations));
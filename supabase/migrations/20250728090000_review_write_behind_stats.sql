@@ -0,0 +1,51 @@
+-- Write-behind review aggregates
+-- The update_destination_rating() triggers re-ran AVG(rating) and COUNT(*) over every review of a destination
+-- on each review write, and review bursts on popular destinations queued on the same destinations row lock.
+-- The backend now keeps a running sum and count per destination: review writes only record a delta, and
+-- deltas are coalesced per destination and applied in one batched statement by ReviewAggregateBuffer.
+
+DROP TRIGGER IF EXISTS update_destination_rating_on_review_insert ON destination_reviews;
+DROP TRIGGER IF EXISTS update_destination_rating_on_review_update ON destination_reviews;
+DROP TRIGGER IF EXISTS update_destination_rating_on_review_delete ON destination_reviews;
+DROP FUNCTION IF EXISTS update_destination_rating();
+
+-- The NOTIFY only existed because those triggers changed ratings where the application could not see them. The
+-- flush evicts the caches itself, and a notification per rewritten row would make every node evict them again.
+DROP TRIGGER IF EXISTS notify_destinations_rating_change ON destinations;
+DROP FUNCTION IF EXISTS notify_destination_rating_change();
+
+CREATE TABLE destination_review_stats (
+    destination_id UUID PRIMARY KEY REFERENCES destinations(id) ON DELETE CASCADE,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    review_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT NOW()
+);
+
+-- Recomputes the aggregates from the reviews, e.g. after writes made outside the backend or after a node
+-- stopped before flushing. Run it while review ingestion is quiet: deltas still buffered in the backend
+-- would be applied on top of the recomputed values.
+CREATE OR REPLACE FUNCTION rebuild_destination_review_stats()
+RETURNS void AS $$
+BEGIN
+    INSERT INTO destination_review_stats AS s (destination_id, rating_sum, review_count)
+    SELECT d.id, COALESCE(SUM(r.rating), 0), COUNT(r.id)
+    FROM destinations d
+    LEFT JOIN destination_reviews r ON r.destination_id = d.id
+    GROUP BY d.id
+    ON CONFLICT (destination_id) DO UPDATE
+        SET rating_sum = EXCLUDED.rating_sum,
+            review_count = EXCLUDED.review_count,
+            updated_at = NOW();
+
+    UPDATE destinations d
+    SET rating = CASE WHEN s.review_count > 0 THEN ROUND(s.rating_sum::numeric / s.review_count, 2) ELSE 0 END,
+        review_count = s.review_count
+    FROM destination_review_stats s
+    WHERE d.id = s.destination_id
+      AND (d.review_count IS DISTINCT FROM s.review_count
+           OR d.rating IS DISTINCT FROM CASE WHEN s.review_count > 0
+                                             THEN ROUND(s.rating_sum::numeric / s.review_count, 2) ELSE 0 END);
+END;
+$$ language 'plpgsql';
+
+SELECT rebuild_destination_review_stats();
@@ -0,0 +1,75 @@
+-- Pre-aggregated review statistics and keyset pagination over reviews
+-- The review read path never counts or groups destination_reviews: the rating histogram and the per travel type
+-- averages are maintained incrementally by the same write-behind flush as the running sum and count.
+
+ALTER TABLE destination_review_stats
+    ADD COLUMN rating_1 INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN rating_2 INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN rating_3 INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN rating_4 INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN rating_5 INTEGER NOT NULL DEFAULT 0;
+
+CREATE TABLE destination_review_travel_types (
+    destination_id UUID NOT NULL REFERENCES destinations(id) ON DELETE CASCADE,
+    travel_type VARCHAR(50) NOT NULL,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    review_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
+    PRIMARY KEY (destination_id, travel_type)
+);
+
+-- Keyset pagination compares (created_at, id) and (helpful_count, id), which must not be NULL
+UPDATE destination_reviews SET helpful_count = 0 WHERE helpful_count IS NULL;
+UPDATE destination_reviews SET created_at = NOW() WHERE created_at IS NULL;
+ALTER TABLE destination_reviews
+    ALTER COLUMN helpful_count SET NOT NULL,
+    ALTER COLUMN created_at SET NOT NULL;
+
+-- Both orders are served straight from an index; the old single-column index is a prefix of both
+CREATE INDEX idx_destination_reviews_destination_newest
+    ON destination_reviews(destination_id, created_at DESC, id DESC);
+CREATE INDEX idx_destination_reviews_destination_helpful
+    ON destination_reviews(destination_id, helpful_count DESC, id DESC);
+DROP INDEX IF EXISTS idx_destination_reviews_destination_id;
+
+CREATE OR REPLACE FUNCTION rebuild_destination_review_stats()
+RETURNS void AS $$
+BEGIN
+    INSERT INTO destination_review_stats AS s
+        (destination_id, rating_sum, review_count, rating_1, rating_2, rating_3, rating_4, rating_5)
+    SELECT d.id, COALESCE(SUM(r.rating), 0), COUNT(r.id),
+           COUNT(r.id) FILTER (WHERE r.rating = 1), COUNT(r.id) FILTER (WHERE r.rating = 2),
+           COUNT(r.id) FILTER (WHERE r.rating = 3), COUNT(r.id) FILTER (WHERE r.rating = 4),
+           COUNT(r.id) FILTER (WHERE r.rating = 5)
+    FROM destinations d
+    LEFT JOIN destination_reviews r ON r.destination_id = d.id
+    GROUP BY d.id
+    ON CONFLICT (destination_id) DO UPDATE
+        SET rating_sum = EXCLUDED.rating_sum,
+            review_count = EXCLUDED.review_count,
+            rating_1 = EXCLUDED.rating_1,
+            rating_2 = EXCLUDED.rating_2,
+            rating_3 = EXCLUDED.rating_3,
+            rating_4 = EXCLUDED.rating_4,
+            rating_5 = EXCLUDED.rating_5,
+            updated_at = NOW();
+
+    DELETE FROM destination_review_travel_types;
+    INSERT INTO destination_review_travel_types (destination_id, travel_type, rating_sum, review_count)
+    SELECT destination_id, travel_type, SUM(rating), COUNT(*)
+    FROM destination_reviews
+    WHERE travel_type IS NOT NULL
+    GROUP BY destination_id, travel_type;
+
+    UPDATE destinations d
+    SET rating = CASE WHEN s.review_count > 0 THEN ROUND(s.rating_sum::numeric / s.review_count, 2) ELSE 0 END,
+        review_count = s.review_count
+    FROM destination_review_stats s
+    WHERE d.id = s.destination_id
+      AND (d.review_count IS DISTINCT FROM s.review_count
+           OR d.rating IS DISTINCT FROM CASE WHEN s.review_count > 0
+                                             THEN ROUND(s.rating_sum::numeric / s.review_count, 2) ELSE 0 END);
+END;
+$$ language 'plpgsql';
+
+SELECT rebuild_destination_review_stats();
@@ -0,0 +1,20 @@
+-- Daily search counts per normalized query
+-- Search autocomplete ranks suggestions by how often they were searched. Aggregating search_history on every
+-- rebuild would scan weeks of rows, so ActivityRecorder rolls each written batch up into this table as well.
+-- results_count keeps the latest known number of matches, so queries that find nothing can be left out.
+
+CREATE TABLE search_query_daily (
+    day DATE NOT NULL,
+    query VARCHAR(500) NOT NULL,
+    search_count INTEGER NOT NULL DEFAULT 0,
+    results_count INTEGER,
+    PRIMARY KEY (day, query)
+);
+
+INSERT INTO search_query_daily (day, query, search_count, results_count)
+SELECT (created_at AT TIME ZONE 'UTC')::date,
+       lower(regexp_replace(btrim(search_query), '\s+', ' ', 'g')),
+       COUNT(*),
+       MAX(results_count)
+FROM search_history
+GROUP BY 1, 2;
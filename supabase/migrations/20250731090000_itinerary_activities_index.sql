@@ -0,0 +1,7 @@
+-- Trip plan loads
+-- A plan is loaded with one query for its days and one for all of their activities. The activities query
+-- and the ON DELETE CASCADE from trip_itineraries look activities up by itinerary; sort_order serves the
+-- per-day ordering from the same index.
+
+CREATE INDEX IF NOT EXISTS idx_itinerary_activities_itinerary_id
+    ON itinerary_activities(itinerary_id, sort_order);
@@ -0,0 +1,14 @@
+-- NULL-safe keyset pagination
+-- The rating and publish-date scrolls seek on COALESCE(rating, 0) and COALESCE(published_at, created_at), so
+-- unrated destinations and posts published without a date are neither skipped nor mis-ordered. These
+-- expression indexes match the new ORDER BY clauses exactly, keeping each slice an index range scan.
+
+UPDATE blog_posts SET created_at = COALESCE(published_at, NOW()) WHERE created_at IS NULL;
+ALTER TABLE blog_posts ALTER COLUMN created_at SET NOT NULL;
+
+CREATE INDEX idx_destination_cards_rating_or_zero_id ON destination_cards((COALESCE(rating, 0)) DESC, id DESC);
+
+CREATE INDEX idx_blog_posts_published_or_created_id
+    ON blog_posts((COALESCE(published_at, created_at)) DESC, id DESC)
+    WHERE is_published = true;
+DROP INDEX IF EXISTS idx_blog_posts_published_at_id;
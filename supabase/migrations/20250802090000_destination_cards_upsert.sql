@@ -0,0 +1,46 @@
+-- Upsert destination cards
+-- refresh_destination_cards deleted and re-inserted each card. Two transactions refreshing the same destination
+-- (e.g. a review and a city rename) could both find the card gone after their DELETE, and the second INSERT then
+-- failed on the primary key. Active destinations are now upserted, and only cards of destinations that are no
+-- longer active are deleted.
+
+CREATE OR REPLACE FUNCTION refresh_destination_cards(destination_ids UUID[])
+RETURNS VOID AS $$
+BEGIN
+    DELETE FROM destination_cards c
+    WHERE c.id = ANY(destination_ids)
+      AND NOT EXISTS (SELECT 1 FROM destinations d WHERE d.id = c.id AND d.is_active = true);
+
+    INSERT INTO destination_cards (
+        id, name, slug, category, short_description, main_image_url, rating, review_count,
+        best_time_to_visit, recommended_duration, difficulty_level, latitude, longitude, is_featured,
+        created_at, city_name, state_name, country_name
+    )
+    SELECT d.id, d.name, d.slug, d.category, d.short_description, d.main_image_url, d.rating, d.review_count,
+           d.best_time_to_visit, d.recommended_duration, d.difficulty_level, d.latitude, d.longitude,
+           d.is_featured, d.created_at, ci.name, st.name, co.name
+    FROM destinations d
+    LEFT JOIN cities ci ON ci.id = d.city_id
+    LEFT JOIN states st ON st.id = ci.state_id
+    LEFT JOIN countries co ON co.id = st.country_id
+    WHERE d.id = ANY(destination_ids) AND d.is_active = true
+    ON CONFLICT (id) DO UPDATE SET
+        name = EXCLUDED.name,
+        slug = EXCLUDED.slug,
+        category = EXCLUDED.category,
+        short_description = EXCLUDED.short_description,
+        main_image_url = EXCLUDED.main_image_url,
+        rating = EXCLUDED.rating,
+        review_count = EXCLUDED.review_count,
+        best_time_to_visit = EXCLUDED.best_time_to_visit,
+        recommended_duration = EXCLUDED.recommended_duration,
+        difficulty_level = EXCLUDED.difficulty_level,
+        latitude = EXCLUDED.latitude,
+        longitude = EXCLUDED.longitude,
+        is_featured = EXCLUDED.is_featured,
+        created_at = EXCLUDED.created_at,
+        city_name = EXCLUDED.city_name,
+        state_name = EXCLUDED.state_name,
+        country_name = EXCLUDED.country_name;
+END;
+$$ language 'plpgsql';